@@ -0,0 +1,61 @@
+package benchmark;
+
+import com.google.gson.reflect.TypeToken;
+import org.example.dto.*;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoFixtures
+{
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 1, 18, 30, 15);
+
+    public static Object sample(String dto, int i)
+    {
+        LocalDateTime datetime = BASE.plusSeconds(i);
+
+        return switch (dto)
+        {
+            case "ticket" -> TicketDto.create(i + 1, i % 50 + 1, i % 2000 + 1, i % 10_000 + 1, datetime);
+            case "seat" -> SeatDto.create(i + 1, i % 20 + 1, String.valueOf((char) ('A' + i % 26)), i % 40 + 1);
+            case "event" -> EventDto.create(i + 1, i % 20 + 1, "Concert number " + i, datetime, datetime.plusHours(3));
+            case "user" -> UserDto.create(i + 1, "User " + i, "user" + i + "@example.com", datetime);
+            case "venue" -> VenueDto.create(i + 1, "Venue " + i, "Main Street " + i + ", Springfield");
+            case "datetime" -> datetime;
+            default -> throw new IllegalArgumentException("Unknown dto: " + dto);
+        };
+    }
+
+    public static List<Object> samples(String dto, int size)
+    {
+        List<Object> samples = new ArrayList<>(size);
+
+        for (int i = 0; i < size; ++i)
+        {
+            samples.add(sample(dto, i));
+        }
+
+        return samples;
+    }
+
+    public static Class<?> type(String dto)
+    {
+        return switch (dto)
+        {
+            case "ticket" -> TicketDto.class;
+            case "seat" -> SeatDto.class;
+            case "event" -> EventDto.class;
+            case "user" -> UserDto.class;
+            case "venue" -> VenueDto.class;
+            case "datetime" -> LocalDateTime.class;
+            default -> throw new IllegalArgumentException("Unknown dto: " + dto);
+        };
+    }
+
+    public static Type listType(String dto)
+    {
+        return TypeToken.getParameterized(List.class, type(dto)).getType();
+    }
+}
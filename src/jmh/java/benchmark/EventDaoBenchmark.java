@@ -0,0 +1,127 @@
+package benchmark;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.EventDao;
+import org.example.dto.EventDto;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jooq.generated.tables.Events.EVENTS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventDaoBenchmark
+{
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 18, 0);
+
+    @Param({"1", "100"})
+    private int rows;
+
+    private EventDao singleDao;
+    private EventDao listDao;
+    private EventDto event;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp()
+    {
+        singleDao = new EventDao(dsl(1));
+        listDao = new EventDao(dsl(rows));
+        event = EventDto.create(1, 1, "Concert", START, START.plusHours(3));
+        pageRequest = PageRequest.first(rows);
+    }
+
+    private static DSLContext dsl(int rows)
+    {
+        return MockDatabase.returning(EVENTS, rows, (record, i) -> {
+            record.set(EVENTS.EVENT_ID, i + 1);
+            record.set(EVENTS.VENUE_ID, 1);
+            record.set(EVENTS.NAME, "Concert " + i);
+            record.set(EVENTS.START_TIME, START.plusDays(i));
+            record.set(EVENTS.END_TIME, START.plusDays(i).plusHours(3));
+        });
+    }
+
+    @Benchmark
+    public List<EventDto> findEvents()
+    {
+        return listDao.findEvents();
+    }
+
+    @Benchmark
+    public Page<EventDto> findEventsPage()
+    {
+        return listDao.findEvents(pageRequest);
+    }
+
+    @Benchmark
+    public void streamEvents(Blackhole blackhole)
+    {
+        Page.forEachRow(listDao::findEvents, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<EventDto> findEventById()
+    {
+        return singleDao.findEventById(1);
+    }
+
+    @Benchmark
+    public List<EventDto> findEventsByName()
+    {
+        return listDao.findEventsByName("Concert");
+    }
+
+    @Benchmark
+    public Page<EventDto> findEventsByNamePage()
+    {
+        return listDao.findEventsByName("Concert", pageRequest);
+    }
+
+    @Benchmark
+    public void streamEventsByName(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findEventsByName("Concert", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<EventDto> findEventsByDateRange()
+    {
+        return listDao.findEventsByDateRange(START, START.plusYears(1));
+    }
+
+    @Benchmark
+    public Page<EventDto> findEventsByDateRangePage()
+    {
+        return listDao.findEventsByDateRange(START, START.plusYears(1), pageRequest);
+    }
+
+    @Benchmark
+    public void streamEventsByDateRange(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findEventsByDateRange(START, START.plusYears(1), batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<EventDto> addEvent()
+    {
+        return singleDao.addEvent(event);
+    }
+
+    @Benchmark
+    public Optional<EventDto> modifyEvent()
+    {
+        return singleDao.modifyEvent(event);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import java.util.function.ObjIntConsumer;
+
+public class MockDatabase
+{
+    // The result is built once, so a benchmark measures the DAO rather than the mock
+    public static DSLContext returning(Table<?> table, int rows, ObjIntConsumer<Record> filler)
+    {
+        Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(table.fields());
+
+        for (int i = 0; i < rows; ++i)
+        {
+            Record record = DSL.using(SQLDialect.POSTGRES).newRecord(table.fields());
+            filler.accept(record, i);
+            result.add(record);
+        }
+
+        MockResult[] mockResults = {new MockResult(rows, result)};
+
+        return DSL.using(new MockConnection(ctx -> mockResults), SQLDialect.POSTGRES);
+    }
+}
@@ -0,0 +1,123 @@
+package benchmark;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.SeatDao;
+import org.example.dto.SeatDto;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jooq.generated.tables.Seats.SEATS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SeatDaoBenchmark
+{
+    @Param({"1", "100"})
+    private int rows;
+
+    private SeatDao singleDao;
+    private SeatDao listDao;
+    private SeatDto seat;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp()
+    {
+        singleDao = new SeatDao(dsl(1));
+        listDao = new SeatDao(dsl(rows));
+        seat = SeatDto.create(1, 1, "A", 1);
+        pageRequest = PageRequest.first(rows);
+    }
+
+    private static DSLContext dsl(int rows)
+    {
+        return MockDatabase.returning(SEATS, rows, (record, i) -> {
+            record.set(SEATS.SEAT_ID, i + 1);
+            record.set(SEATS.VENUE_ID, 1);
+            record.set(SEATS.SEAT_ROW, "A");
+            record.set(SEATS.SEAT_NUMBER, i + 1);
+        });
+    }
+
+    @Benchmark
+    public List<SeatDto> findSeats()
+    {
+        return listDao.findSeats();
+    }
+
+    @Benchmark
+    public Page<SeatDto> findSeatsPage()
+    {
+        return listDao.findSeats(pageRequest);
+    }
+
+    @Benchmark
+    public void streamSeats(Blackhole blackhole)
+    {
+        Page.forEachRow(listDao::findSeats, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<SeatDto> findSeatById()
+    {
+        return singleDao.findSeatById(1);
+    }
+
+    @Benchmark
+    public List<SeatDto> findSeatsByVenue()
+    {
+        return listDao.findSeatsByVenue(1);
+    }
+
+    @Benchmark
+    public Page<SeatDto> findSeatsByVenuePage()
+    {
+        return listDao.findSeatsByVenue(1, pageRequest);
+    }
+
+    @Benchmark
+    public void streamSeatsByVenue(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findSeatsByVenue(1, batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<SeatDto> findSeatsByVenueAndSeatRow()
+    {
+        return listDao.findSeatsByVenueAndSeatRow(1, "A");
+    }
+
+    @Benchmark
+    public Page<SeatDto> findSeatsByVenueAndSeatRowPage()
+    {
+        return listDao.findSeatsByVenueAndSeatRow(1, "A", pageRequest);
+    }
+
+    @Benchmark
+    public void streamSeatsByVenueAndSeatRow(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findSeatsByVenueAndSeatRow(1, "A", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<SeatDto> addSeat()
+    {
+        return singleDao.addSeat(seat);
+    }
+
+    @Benchmark
+    public Optional<SeatDto> modifySeat()
+    {
+        return singleDao.modifySeat(seat);
+    }
+}
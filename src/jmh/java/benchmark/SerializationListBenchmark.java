@@ -0,0 +1,67 @@
+package benchmark;
+
+import com.google.gson.Gson;
+import org.example.config.GsonProvider;
+import org.example.json.DtoSerializers;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationListBenchmark
+{
+    @Param({"ticket", "seat", "event", "user", "venue"})
+    private String dto;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private final Gson gson = GsonProvider.getGson();
+    private List<Object> values;
+    private Type listType;
+    private Class<Object> type;
+    private String json;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp()
+    {
+        values = DtoFixtures.samples(dto, size);
+        listType = DtoFixtures.listType(dto);
+        type = (Class<Object>) DtoFixtures.type(dto);
+        json = gson.toJson(values, listType);
+    }
+
+    @Benchmark
+    public String serialize()
+    {
+        return gson.toJson(values, listType);
+    }
+
+    // What Spark ends up writing for a String body: the Gson output encoded to UTF-8
+    @Benchmark
+    public byte[] serializeToBytes()
+    {
+        return gson.toJson(values, listType).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeDirect()
+    {
+        return DtoSerializers.toJson(type, values);
+    }
+
+    @Benchmark
+    public Object deserialize()
+    {
+        return gson.fromJson(json, listType);
+    }
+}
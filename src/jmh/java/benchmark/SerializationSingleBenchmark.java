@@ -0,0 +1,44 @@
+package benchmark;
+
+import com.google.gson.Gson;
+import org.example.config.GsonProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationSingleBenchmark
+{
+    @Param({"ticket", "seat", "event", "user", "venue", "datetime"})
+    private String dto;
+
+    private final Gson gson = GsonProvider.getGson();
+    private Object value;
+    private Class<?> type;
+    private String json;
+
+    @Setup
+    public void setUp()
+    {
+        value = DtoFixtures.sample(dto, 42);
+        type = DtoFixtures.type(dto);
+        json = gson.toJson(value, type);
+    }
+
+    @Benchmark
+    public String serialize()
+    {
+        return gson.toJson(value, type);
+    }
+
+    @Benchmark
+    public Object deserialize()
+    {
+        return gson.fromJson(json, type);
+    }
+}
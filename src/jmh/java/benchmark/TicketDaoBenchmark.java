@@ -0,0 +1,153 @@
+package benchmark;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.TicketDao;
+import org.example.dto.TicketDto;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jooq.generated.tables.Tickets.TICKETS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TicketDaoBenchmark
+{
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 18, 0);
+
+    @Param({"1", "100"})
+    private int rows;
+
+    private TicketDao singleDao;
+    private TicketDao listDao;
+    private TicketDto ticket;
+    private List<TicketDto> tickets;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp()
+    {
+        singleDao = new TicketDao(dsl(1));
+        listDao = new TicketDao(dsl(rows));
+        ticket = TicketDto.create(1, 1, 1, 1, START);
+        tickets = List.copyOf(listDao.findTickets());
+        pageRequest = PageRequest.first(rows);
+    }
+
+    private static DSLContext dsl(int rows)
+    {
+        return MockDatabase.returning(TICKETS, rows, (record, i) -> {
+            record.set(TICKETS.TICKET_ID, i + 1);
+            record.set(TICKETS.EVENT_ID, 1);
+            record.set(TICKETS.SEAT_ID, i + 1);
+            record.set(TICKETS.USER_ID, i % 10 + 1);
+            record.set(TICKETS.BOOKED_AT, START.plusSeconds(i));
+        });
+    }
+
+    @Benchmark
+    public List<TicketDto> findTickets()
+    {
+        return listDao.findTickets();
+    }
+
+    @Benchmark
+    public Page<TicketDto> findTicketsPage()
+    {
+        return listDao.findTickets(pageRequest);
+    }
+
+    @Benchmark
+    public void streamTickets(Blackhole blackhole)
+    {
+        Page.forEachRow(listDao::findTickets, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<TicketDto> findTicketById()
+    {
+        return singleDao.findTicketById(1);
+    }
+
+    @Benchmark
+    public List<TicketDto> findTicketsByEventId()
+    {
+        return listDao.findTicketsByEventId(1);
+    }
+
+    @Benchmark
+    public Page<TicketDto> findTicketsByEventIdPage()
+    {
+        return listDao.findTicketsByEventId(1, pageRequest);
+    }
+
+    @Benchmark
+    public void streamTicketsByEventId(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findTicketsByEventId(1, batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<TicketDto> findTicketsByUserId()
+    {
+        return listDao.findTicketsByUserId(1);
+    }
+
+    @Benchmark
+    public Page<TicketDto> findTicketsByUserIdPage()
+    {
+        return listDao.findTicketsByUserId(1, pageRequest);
+    }
+
+    @Benchmark
+    public void streamTicketsByUserId(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findTicketsByUserId(1, batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<TicketDto> findTicketsByBookedDate()
+    {
+        return listDao.findTicketsByBookedDate(START, START.plusDays(1));
+    }
+
+    @Benchmark
+    public Page<TicketDto> findTicketsByBookedDatePage()
+    {
+        return listDao.findTicketsByBookedDate(START, START.plusDays(1), pageRequest);
+    }
+
+    @Benchmark
+    public void streamTicketsByBookedDate(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findTicketsByBookedDate(START, START.plusDays(1), batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<TicketDto> addTicket()
+    {
+        return singleDao.addTicket(ticket);
+    }
+
+    @Benchmark
+    public Optional<List<TicketDto>> addTickets()
+    {
+        return listDao.addTickets(tickets);
+    }
+
+    @Benchmark
+    public Optional<TicketDto> modifyTicket()
+    {
+        return singleDao.modifyTicket(ticket);
+    }
+}
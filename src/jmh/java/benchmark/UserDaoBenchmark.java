@@ -0,0 +1,132 @@
+package benchmark;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.UserDao;
+import org.example.dto.UserDto;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jooq.generated.tables.Users.USERS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UserDaoBenchmark
+{
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 18, 0);
+
+    @Param({"1", "100"})
+    private int rows;
+
+    private UserDao singleDao;
+    private UserDao listDao;
+    private UserDto user;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp()
+    {
+        singleDao = new UserDao(dsl(1));
+        listDao = new UserDao(dsl(rows));
+        user = UserDto.create(1, "User", "user@example.com", START);
+        pageRequest = PageRequest.first(rows);
+    }
+
+    private static DSLContext dsl(int rows)
+    {
+        return MockDatabase.returning(USERS, rows, (record, i) -> {
+            record.set(USERS.USER_ID, i + 1);
+            record.set(USERS.NAME, "User " + i);
+            record.set(USERS.EMAIL, "user" + i + "@example.com");
+            record.set(USERS.CREATED_AT, START.plusSeconds(i));
+        });
+    }
+
+    @Benchmark
+    public List<UserDto> findUsers()
+    {
+        return listDao.findUsers();
+    }
+
+    @Benchmark
+    public Page<UserDto> findUsersPage()
+    {
+        return listDao.findUsers(pageRequest);
+    }
+
+    @Benchmark
+    public void streamUsers(Blackhole blackhole)
+    {
+        Page.forEachRow(listDao::findUsers, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<UserDto> findUserById()
+    {
+        return singleDao.findUserById(1);
+    }
+
+    @Benchmark
+    public List<UserDto> findUsersByName()
+    {
+        return listDao.findUsersByName("User");
+    }
+
+    @Benchmark
+    public Page<UserDto> findUsersByNamePage()
+    {
+        return listDao.findUsersByName("User", pageRequest);
+    }
+
+    @Benchmark
+    public void streamUsersByName(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findUsersByName("User", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<UserDto> findUserByEmail()
+    {
+        return singleDao.findUserByEmail("user@example.com");
+    }
+
+    @Benchmark
+    public List<UserDto> findUserByCreationDatetime()
+    {
+        return listDao.findUserByCreationDatetime(START, START.plusDays(1));
+    }
+
+    @Benchmark
+    public Page<UserDto> findUserByCreationDatetimePage()
+    {
+        return listDao.findUserByCreationDatetime(START, START.plusDays(1), pageRequest);
+    }
+
+    @Benchmark
+    public void streamUserByCreationDatetime(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findUserByCreationDatetime(START, START.plusDays(1), batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<UserDto> addUser()
+    {
+        return singleDao.addUser(user);
+    }
+
+    @Benchmark
+    public Optional<UserDto> modifyUser()
+    {
+        return singleDao.modifyUser(user);
+    }
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.VenueDao;
+import org.example.dto.VenueDto;
+import org.jooq.DSLContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jooq.generated.tables.Venues.VENUES;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VenueDaoBenchmark
+{
+    @Param({"1", "100"})
+    private int rows;
+
+    private VenueDao singleDao;
+    private VenueDao listDao;
+    private VenueDto venue;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setUp()
+    {
+        singleDao = new VenueDao(dsl(1));
+        listDao = new VenueDao(dsl(rows));
+        venue = VenueDto.create(1, "Arena", "Main Street 1");
+        pageRequest = PageRequest.first(rows);
+    }
+
+    private static DSLContext dsl(int rows)
+    {
+        return MockDatabase.returning(VENUES, rows, (record, i) -> {
+            record.set(VENUES.VENUE_ID, i + 1);
+            record.set(VENUES.NAME, "Arena");
+            record.set(VENUES.ADDRESS, "Main Street " + i);
+        });
+    }
+
+    @Benchmark
+    public List<VenueDto> findVenues()
+    {
+        return listDao.findVenues();
+    }
+
+    @Benchmark
+    public Page<VenueDto> findVenuesPage()
+    {
+        return listDao.findVenues(pageRequest);
+    }
+
+    @Benchmark
+    public void streamVenues(Blackhole blackhole)
+    {
+        Page.forEachRow(listDao::findVenues, blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<VenueDto> findVenueById()
+    {
+        return singleDao.findVenueById(1);
+    }
+
+    @Benchmark
+    public List<VenueDto> findVenueByName()
+    {
+        return listDao.findVenueByName("Arena");
+    }
+
+    @Benchmark
+    public Page<VenueDto> findVenueByNamePage()
+    {
+        return listDao.findVenueByName("Arena", pageRequest);
+    }
+
+    @Benchmark
+    public void streamVenueByName(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findVenueByName("Arena", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<VenueDto> findVenueByAddress()
+    {
+        return listDao.findVenueByAddress("Main Street 1");
+    }
+
+    @Benchmark
+    public Page<VenueDto> findVenueByAddressPage()
+    {
+        return listDao.findVenueByAddress("Main Street 1", pageRequest);
+    }
+
+    @Benchmark
+    public void streamVenueByAddress(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findVenueByAddress("Main Street 1", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public List<VenueDto> findVenueByNameAndAddress()
+    {
+        return listDao.findVenueByNameAndAddress("Arena", "Main Street 1");
+    }
+
+    @Benchmark
+    public Page<VenueDto> findVenueByNameAndAddressPage()
+    {
+        return listDao.findVenueByNameAndAddress("Arena", "Main Street 1", pageRequest);
+    }
+
+    @Benchmark
+    public void streamVenueByNameAndAddress(Blackhole blackhole)
+    {
+        Page.forEachRow(batch -> listDao.findVenueByNameAndAddress("Arena", "Main Street 1", batch), blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<VenueDto> addVenue()
+    {
+        return singleDao.addVenue(venue);
+    }
+
+    @Benchmark
+    public Optional<VenueDto> modifyVenue()
+    {
+        return singleDao.modifyVenue(venue);
+    }
+}
@@ -1,34 +1,155 @@
 package org.example;
 
+import org.example.booking.AvailabilityCache;
+import org.example.booking.BookingShards;
+import org.example.booking.HoldService;
+import org.example.booking.SeatInventory;
+import org.example.booking.WaitingRoom;
+import org.example.cache.BloomFilter;
+import org.example.cache.CachedEventDao;
+import org.example.cache.CachedSeatDao;
+import org.example.cache.CachedTicketDao;
+import org.example.cache.CachedUserDao;
+import org.example.cache.CachedVenueDao;
+import org.example.cache.EntityVersions;
+import org.example.cache.KnownMaxId;
+import org.example.cache.NegativeCache;
+import org.example.cache.ReadThroughCache;
+import org.example.cache.SingleFlight;
+import org.example.config.Config;
 import org.example.config.Database;
+import org.example.config.ServerThreads;
+import org.example.dao.EventDao;
+import org.example.dao.SeatDao;
+import org.example.dao.TicketDao;
+import org.example.dao.UserDao;
+import org.example.dao.VenueDao;
+import org.example.dto.EventDto;
+import org.example.dto.SeatDto;
+import org.example.dto.UserDto;
+import org.example.dto.VenueDto;
+import org.example.metrics.RouteMetrics;
 import org.example.route.*;
+import org.example.util.TimingWheel;
 import org.jooq.DSLContext;
 
-import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static spark.Spark.before;
 import static spark.Spark.port;
+import static spark.Spark.stop;
 
 public class Main
 {
-    public static void main(String[] args) throws SQLException
+    public static void main(String[] args)
     {
         try
         {
+            // Read before the first Spark call starts Jetty, so a malformed limit or rate never leaves a server listening
+            RateLimitRoutesProvider rateLimits = new RateLimitRoutesProvider(RateLimitRoutesProvider.bucketsFromConfig());
+
+            TimingWheel holdTimer = new TimingWheel("hold-expiry", Config.getLong("hold.tickMs", 100), TimeUnit.MILLISECONDS,
+                    Config.getInt("hold.wheelSize", 64), Config.getInt("hold.wheelLevels", 4));
+            WaitingRoom waitingRoom = WaitingRoom.fromConfig(holdTimer);
+
+            ServerThreads.configure();
             port(8080);
             before((req, res) -> res.type("application/json"));
 
+            RouteMetrics routeMetrics = new RouteMetrics(Config.getLong("metrics.windowSeconds", 60),
+                    Config.getInt("metrics.maxRoutes", 200));
+            new MetricsRoutesProvider(routeMetrics).registerRoutes();
+            rateLimits.registerRoutes();
+
             DSLContext dsl = Database.getDslContext();
 
-            new UserRoutesProvider(dsl).registerRoutes();
-            new SeatRoutesProvider(dsl).registerRoutes();
-            new VenueRoutesProvider(dsl).registerRoutes();
-            new EventRoutesProvider(dsl).registerRoutes();
-            new TicketRoutesProvider(dsl).registerRoutes();
+            ReadThroughCache<Integer, VenueDto> venueCache = ReadThroughCache.fromConfig("venues");
+            ReadThroughCache<Integer, EventDto> eventCache = ReadThroughCache.fromConfig("events");
+            ReadThroughCache<Integer, SeatDto> seatCache = ReadThroughCache.fromConfig("seats");
+
+            EntityVersions venueVersions = new EntityVersions("venues");
+            EntityVersions eventVersions = new EntityVersions("events");
+            EntityVersions seatVersions = new EntityVersions("seats");
+
+            SingleFlight venueFlights = new SingleFlight("venues");
+            SingleFlight eventFlights = new SingleFlight("events");
+            SingleFlight seatFlights = new SingleFlight("seats");
+
+            VenueDao venueDao = new CachedVenueDao(dsl, venueCache, venueVersions, venueFlights);
+            EventDao eventDao = new CachedEventDao(dsl, eventCache, eventVersions, eventFlights);
+            SeatDao seatDao = new CachedSeatDao(dsl, seatCache, seatVersions, seatFlights);
+
+            NegativeCache<Integer> missingTickets = NegativeCache.fromConfig("tickets");
+            NegativeCache<Integer> missingUsers = NegativeCache.fromConfig("users");
+            NegativeCache<String> missingEmails = NegativeCache.fromConfig("emails");
+
+            TicketDao ticketDao = new CachedTicketDao(dsl, missingTickets, KnownMaxId.fromConfig(new TicketDao(dsl)::findMaxTicketId));
+            ReadThroughCache<String, UserDto> emailCache = ReadThroughCache.fromConfig("emails");
+            BloomFilter emailFilter = BloomFilter.fromConfig("emails");
+
+            CachedUserDao userDao = new CachedUserDao(dsl, missingUsers, missingEmails, KnownMaxId.fromConfig(new UserDao(dsl)::findMaxUserId),
+                    emailCache, emailFilter);
+            userDao.rebuildEmailFilter();
+
+            long emailFilterRebuildSeconds = Config.getLong("negativeCache.maxIdRefreshSeconds", 30);
+            ScheduledExecutorService emailFilterRebuild = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "email-filter-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+            emailFilterRebuild.scheduleWithFixedDelay(userDao::rebuildEmailFilter, emailFilterRebuildSeconds,
+                    emailFilterRebuildSeconds, TimeUnit.SECONDS);
+
+            SeatInventory seatInventory = new SeatInventory(eventDao, seatDao, ticketDao);
+            seatInventory.rebuild();
+
+            holdTimer.start();
+
+            HoldService holdService = new HoldService(ticketDao, seatInventory, holdTimer);
+            seatInventory.setHeldSeats(holdService::heldSeats);
+
+            BookingShards bookingShards = BookingShards.fromConfig();
+
+            new UserRoutesProvider(userDao).registerRoutes();
+            new SeatRoutesProvider(seatDao, seatVersions, seatInventory).registerRoutes();
+            new VenueRoutesProvider(venueDao, venueVersions).registerRoutes();
+            new EventRoutesProvider(eventDao, eventVersions, holdService, new AvailabilityCache(seatInventory), waitingRoom).registerRoutes();
+            new TicketRoutesProvider(ticketDao, seatInventory, bookingShards, waitingRoom).registerRoutes();
+            new QueueRoutesProvider(eventDao, waitingRoom).registerRoutes();
+            new StatsRoutesProvider(List.of(venueCache, eventCache, seatCache, emailCache),
+                    List.of(missingTickets, missingUsers, missingEmails), List.of(venueFlights, eventFlights, seatFlights),
+                    List.of(userDao::emailFilter), bookingShards).registerRoutes();
+
+            long shardShutdownSeconds = Config.getLong("booking.shards.shutdownTimeoutSeconds", 10);
+
+            // Bookings still queued on a shard need the connection pool, so it is closed only once they have finished
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                bookingShards.shutdown();
+
+                try
+                {
+                    if (!bookingShards.awaitTermination(shardShutdownSeconds, TimeUnit.SECONDS))
+                    {
+                        System.err.println("Booking shards did not finish within " + shardShutdownSeconds + " seconds");
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                Database.close();
+            }));
         }
         catch (Exception e)
         {
+            // Jetty may already be listening with only some of the routes registered
             System.err.println(e.getMessage());
+            stop();
+            System.exit(1);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package org.example.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.example.dto.AvailabilityDto;
+import org.example.dto.SeatRowAvailabilityDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AvailabilityDtoAdapter extends TypeAdapter<AvailabilityDto>
+{
+    @Override
+    public void write(JsonWriter jsonWriter, AvailabilityDto availabilityDto) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name("eventId").value(availabilityDto.eventId());
+        jsonWriter.name("seatCount").value(availabilityDto.seatCount());
+        jsonWriter.name("availableCount").value(availabilityDto.availableCount());
+        jsonWriter.name("rows").beginArray();
+        for (SeatRowAvailabilityDto row : availabilityDto.rows())
+        {
+            int[] runs = row.freeRuns();
+
+            jsonWriter.beginObject();
+            jsonWriter.name("seatRow").value(row.seatRow());
+            jsonWriter.name("free").beginArray();
+            for (int i = 0; i < runs.length; i += 2)
+            {
+                jsonWriter.beginArray().value(runs[i]).value(runs[i + 1]).endArray();
+            }
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public AvailabilityDto read(JsonReader jsonReader) throws IOException
+    {
+        int eventId = 0;
+        int seatCount = 0;
+        int availableCount = 0;
+        List<SeatRowAvailabilityDto> rows = new ArrayList<>();
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "eventId" -> eventId = jsonReader.nextInt();
+                case "seatCount" -> seatCount = jsonReader.nextInt();
+                case "availableCount" -> availableCount = jsonReader.nextInt();
+                case "rows" -> {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext())
+                    {
+                        rows.add(readRow(jsonReader));
+                    }
+                    jsonReader.endArray();
+                }
+            }
+        }
+        jsonReader.endObject();
+
+        return AvailabilityDto.create(eventId, seatCount, availableCount, rows);
+    }
+
+    private SeatRowAvailabilityDto readRow(JsonReader jsonReader) throws IOException
+    {
+        String seatRow = null;
+        List<Integer> runs = new ArrayList<>();
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "seatRow" -> seatRow = jsonReader.nextString();
+                case "free" -> {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext())
+                    {
+                        jsonReader.beginArray();
+                        runs.add(jsonReader.nextInt());
+                        runs.add(jsonReader.nextInt());
+                        jsonReader.endArray();
+                    }
+                    jsonReader.endArray();
+                }
+            }
+        }
+        jsonReader.endObject();
+
+        return SeatRowAvailabilityDto.create(seatRow, runs.stream().mapToInt(Integer::intValue).toArray());
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.adapter;
+
+import org.example.cbor.CborAdapter;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.dto.EventDto;
+
+import java.time.LocalDateTime;
+
+public class EventDtoCborAdapter implements CborAdapter<EventDto>
+{
+    private static final byte[] EVENT_ID = CborWriter.key("eventId");
+    private static final byte[] VENUE_ID = CborWriter.key("venueId");
+    private static final byte[] NAME = CborWriter.key("name");
+    private static final byte[] START_TIME = CborWriter.key("startTime");
+    private static final byte[] END_TIME = CborWriter.key("endTime");
+
+    @Override
+    public void write(CborWriter writer, EventDto eventDto)
+    {
+        writer.beginMap(5);
+        writer.raw(EVENT_ID).value(eventDto.eventId());
+        writer.raw(VENUE_ID).value(eventDto.venueId());
+        writer.raw(NAME).value(eventDto.name());
+        writer.raw(START_TIME).value(eventDto.startTime());
+        writer.raw(END_TIME).value(eventDto.endTime());
+    }
+
+    @Override
+    public EventDto read(CborReader reader)
+    {
+        int eventId = 0;
+        int venueId = 0;
+        String name = null;
+        LocalDateTime startTime = null;
+        LocalDateTime endTime = null;
+
+        reader.beginMap();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "eventId" -> eventId = reader.nextInt();
+                case "venueId" -> venueId = reader.nextInt();
+                case "name" -> name = reader.nextString();
+                case "startTime" -> startTime = LocalDateTime.parse(reader.nextString());
+                case "endTime" -> endTime = LocalDateTime.parse(reader.nextString());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endMap();
+
+        return EventDto.create(eventId, venueId, name, startTime, endTime);
+    }
+}
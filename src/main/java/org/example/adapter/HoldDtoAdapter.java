@@ -0,0 +1,67 @@
+package org.example.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.example.dto.HoldDto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HoldDtoAdapter extends TypeAdapter<HoldDto>
+{
+    private static final LocalDateTimeAdapter localDateTimeAdapter = new LocalDateTimeAdapter();
+
+    @Override
+    public void write(JsonWriter jsonWriter, HoldDto holdDto) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name("holdId").value(holdDto.holdId());
+        jsonWriter.name("eventId").value(holdDto.eventId());
+        jsonWriter.name("userId").value(holdDto.userId());
+        jsonWriter.name("seatIds").beginArray();
+        for (int seatId : holdDto.seatIds())
+        {
+            jsonWriter.value(seatId);
+        }
+        jsonWriter.endArray();
+        jsonWriter.name("expiresAt");
+        localDateTimeAdapter.write(jsonWriter, holdDto.expiresAt());
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public HoldDto read(JsonReader jsonReader) throws IOException
+    {
+        int holdId = 0;
+        int eventId = 0;
+        int userId = 0;
+        List<Integer> seatIds = new ArrayList<>();
+        LocalDateTime expiresAt = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "holdId" -> holdId = jsonReader.nextInt();
+                case "eventId" -> eventId = jsonReader.nextInt();
+                case "userId" -> userId = jsonReader.nextInt();
+                case "seatIds" -> {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext())
+                    {
+                        seatIds.add(jsonReader.nextInt());
+                    }
+                    jsonReader.endArray();
+                }
+                case "expiresAt" -> expiresAt = localDateTimeAdapter.read(jsonReader);
+            }
+        }
+        jsonReader.endObject();
+
+        return HoldDto.create(holdId, eventId, userId, seatIds, expiresAt);
+    }
+}
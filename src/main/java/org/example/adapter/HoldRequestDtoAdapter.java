@@ -0,0 +1,54 @@
+package org.example.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.example.dto.HoldRequestDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HoldRequestDtoAdapter extends TypeAdapter<HoldRequestDto>
+{
+    @Override
+    public void write(JsonWriter jsonWriter, HoldRequestDto holdRequestDto) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name("userId").value(holdRequestDto.userId());
+        jsonWriter.name("seatIds").beginArray();
+        for (int seatId : holdRequestDto.seatIds())
+        {
+            jsonWriter.value(seatId);
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public HoldRequestDto read(JsonReader jsonReader) throws IOException
+    {
+        int userId = 0;
+        List<Integer> seatIds = new ArrayList<>();
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "userId" -> userId = jsonReader.nextInt();
+                case "seatIds" -> {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext())
+                    {
+                        seatIds.add(jsonReader.nextInt());
+                    }
+                    jsonReader.endArray();
+                }
+            }
+        }
+        jsonReader.endObject();
+
+        return HoldRequestDto.create(userId, seatIds);
+    }
+}
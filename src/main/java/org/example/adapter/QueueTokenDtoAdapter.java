@@ -0,0 +1,49 @@
+package org.example.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.example.dto.QueueTokenDto;
+
+import java.io.IOException;
+
+public class QueueTokenDtoAdapter extends TypeAdapter<QueueTokenDto>
+{
+    @Override
+    public void write(JsonWriter jsonWriter, QueueTokenDto queueTokenDto) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name("token").value(queueTokenDto.token());
+        jsonWriter.name("eventId").value(queueTokenDto.eventId());
+        jsonWriter.name("position").value(queueTokenDto.position());
+        jsonWriter.name("admitted").value(queueTokenDto.admitted());
+        jsonWriter.name("estimatedWaitSeconds").value(queueTokenDto.estimatedWaitSeconds());
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public QueueTokenDto read(JsonReader jsonReader) throws IOException
+    {
+        String token = null;
+        int eventId = 0;
+        long position = 0;
+        boolean admitted = false;
+        long estimatedWaitSeconds = 0;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "token" -> token = jsonReader.nextString();
+                case "eventId" -> eventId = jsonReader.nextInt();
+                case "position" -> position = jsonReader.nextLong();
+                case "admitted" -> admitted = jsonReader.nextBoolean();
+                case "estimatedWaitSeconds" -> estimatedWaitSeconds = jsonReader.nextLong();
+            }
+        }
+        jsonReader.endObject();
+
+        return QueueTokenDto.create(token, eventId, position, admitted, estimatedWaitSeconds);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.adapter;
+
+import org.example.cbor.CborAdapter;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.dto.SeatDto;
+
+public class SeatDtoCborAdapter implements CborAdapter<SeatDto>
+{
+    private static final byte[] SEAT_ID = CborWriter.key("seatId");
+    private static final byte[] VENUE_ID = CborWriter.key("venueId");
+    private static final byte[] SEAT_ROW = CborWriter.key("seatRow");
+    private static final byte[] SEAT_NUMBER = CborWriter.key("seatNumber");
+
+    @Override
+    public void write(CborWriter writer, SeatDto seatDto)
+    {
+        writer.beginMap(4);
+        writer.raw(SEAT_ID).value(seatDto.seatId());
+        writer.raw(VENUE_ID).value(seatDto.venueId());
+        writer.raw(SEAT_ROW).value(seatDto.seatRow());
+        writer.raw(SEAT_NUMBER).value(seatDto.seatNumber());
+    }
+
+    @Override
+    public SeatDto read(CborReader reader)
+    {
+        int seatId = 0;
+        int venueId = 0;
+        String seatRow = null;
+        int seatNumber = 0;
+
+        reader.beginMap();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "seatId" -> seatId = reader.nextInt();
+                case "venueId" -> venueId = reader.nextInt();
+                case "seatRow" -> seatRow = reader.nextString();
+                case "seatNumber" -> seatNumber = reader.nextInt();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endMap();
+
+        return SeatDto.create(seatId, venueId, seatRow, seatNumber);
+    }
+}
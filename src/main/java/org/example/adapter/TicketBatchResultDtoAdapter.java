@@ -0,0 +1,51 @@
+package org.example.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.example.dto.TicketBatchResultDto;
+import org.example.dto.TicketDto;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class TicketBatchResultDtoAdapter extends TypeAdapter<TicketBatchResultDto>
+{
+    private final TicketDtoAdapter ticketDtoAdapter = new TicketDtoAdapter();
+
+    @Override
+    public void write(JsonWriter jsonWriter, TicketBatchResultDto resultDto) throws IOException
+    {
+        jsonWriter.beginObject();
+        jsonWriter.name("index").value(resultDto.index());
+        jsonWriter.name("status").value(resultDto.status());
+        if (resultDto.ticket().isPresent())
+        {
+            jsonWriter.name("ticket");
+            ticketDtoAdapter.write(jsonWriter, resultDto.ticket().get());
+        }
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public TicketBatchResultDto read(JsonReader jsonReader) throws IOException
+    {
+        int index = 0;
+        String status = null;
+        TicketDto ticket = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext())
+        {
+            switch (jsonReader.nextName())
+            {
+                case "index" -> index = jsonReader.nextInt();
+                case "status" -> status = jsonReader.nextString();
+                case "ticket" -> ticket = ticketDtoAdapter.read(jsonReader);
+            }
+        }
+        jsonReader.endObject();
+
+        return TicketBatchResultDto.create(index, status, Optional.ofNullable(ticket));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.adapter;
+
+import org.example.cbor.CborAdapter;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.dto.TicketDto;
+
+import java.time.LocalDateTime;
+
+public class TicketDtoCborAdapter implements CborAdapter<TicketDto>
+{
+    private static final byte[] TICKET_ID = CborWriter.key("ticketId");
+    private static final byte[] EVENT_ID = CborWriter.key("eventId");
+    private static final byte[] SEAT_ID = CborWriter.key("seatId");
+    private static final byte[] USER_ID = CborWriter.key("userId");
+    private static final byte[] BOOKED_AT = CborWriter.key("bookedAt");
+
+    @Override
+    public void write(CborWriter writer, TicketDto ticketDto)
+    {
+        writer.beginMap(5);
+        writer.raw(TICKET_ID).value(ticketDto.ticketId());
+        writer.raw(EVENT_ID).value(ticketDto.eventId());
+        writer.raw(SEAT_ID).value(ticketDto.seatId());
+        writer.raw(USER_ID).value(ticketDto.userId());
+        writer.raw(BOOKED_AT).value(ticketDto.bookedAt());
+    }
+
+    @Override
+    public TicketDto read(CborReader reader)
+    {
+        int ticketId = 0;
+        int eventId = 0;
+        int seatId = 0;
+        int userId = 0;
+        LocalDateTime bookedAt = null;
+
+        reader.beginMap();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "ticketId" -> ticketId = reader.nextInt();
+                case "eventId" -> eventId = reader.nextInt();
+                case "seatId" -> seatId = reader.nextInt();
+                case "userId" -> userId = reader.nextInt();
+                case "bookedAt" -> bookedAt = LocalDateTime.parse(reader.nextString());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endMap();
+
+        return TicketDto.create(ticketId, eventId, seatId, userId, bookedAt);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.adapter;
+
+import org.example.cbor.CborAdapter;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.dto.UserDto;
+
+import java.time.LocalDateTime;
+
+public class UserDtoCborAdapter implements CborAdapter<UserDto>
+{
+    private static final byte[] USER_ID = CborWriter.key("userId");
+    private static final byte[] NAME = CborWriter.key("name");
+    private static final byte[] EMAIL = CborWriter.key("email");
+    private static final byte[] CREATED_AT = CborWriter.key("createdAt");
+
+    @Override
+    public void write(CborWriter writer, UserDto userDto)
+    {
+        writer.beginMap(4);
+        writer.raw(USER_ID).value(userDto.userId());
+        writer.raw(NAME).value(userDto.name());
+        writer.raw(EMAIL).value(userDto.email());
+        writer.raw(CREATED_AT).value(userDto.createdAt());
+    }
+
+    @Override
+    public UserDto read(CborReader reader)
+    {
+        int userId = 0;
+        String name = null;
+        String email = null;
+        LocalDateTime createdAt = null;
+
+        reader.beginMap();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "userId" -> userId = reader.nextInt();
+                case "name" -> name = reader.nextString();
+                case "email" -> email = reader.nextString();
+                case "createdAt" -> createdAt = LocalDateTime.parse(reader.nextString());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endMap();
+
+        return UserDto.create(userId, name, email, createdAt);
+    }
+}
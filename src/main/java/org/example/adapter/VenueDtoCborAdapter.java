@@ -0,0 +1,45 @@
+package org.example.adapter;
+
+import org.example.cbor.CborAdapter;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.dto.VenueDto;
+
+public class VenueDtoCborAdapter implements CborAdapter<VenueDto>
+{
+    private static final byte[] VENUE_ID = CborWriter.key("venueId");
+    private static final byte[] NAME = CborWriter.key("name");
+    private static final byte[] ADDRESS = CborWriter.key("address");
+
+    @Override
+    public void write(CborWriter writer, VenueDto venueDto)
+    {
+        writer.beginMap(3);
+        writer.raw(VENUE_ID).value(venueDto.venueId());
+        writer.raw(NAME).value(venueDto.name());
+        writer.raw(ADDRESS).value(venueDto.address());
+    }
+
+    @Override
+    public VenueDto read(CborReader reader)
+    {
+        int venueId = 0;
+        String name = null;
+        String address = null;
+
+        reader.beginMap();
+        while (reader.hasNext())
+        {
+            switch (reader.nextName())
+            {
+                case "venueId" -> venueId = reader.nextInt();
+                case "name" -> name = reader.nextString();
+                case "address" -> address = reader.nextString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endMap();
+
+        return VenueDto.create(venueId, name, address);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.booking;
+
+import com.google.gson.Gson;
+import org.example.config.GsonProvider;
+import org.example.dto.AvailabilityDto;
+import org.example.dto.SeatRowAvailabilityDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AvailabilityCache
+{
+    private final SeatInventory seatInventory;
+    private final Gson gson = GsonProvider.getGson();
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    public AvailabilityCache(SeatInventory seatInventory)
+    {
+        this.seatInventory = seatInventory;
+    }
+
+    public Optional<String> findAvailabilityJson(int eventId)
+    {
+        Optional<EventInventory> inventory = seatInventory.forEvent(eventId);
+
+        if (inventory.isEmpty())
+        {
+            return Optional.empty();
+        }
+
+        EventInventory current = inventory.get();
+        long version = current.version();
+        Entry entry = entries.get(eventId);
+
+        if (entry == null || entry.inventory != current || entry.version != version)
+        {
+            entry = new Entry(current, version, gson.toJson(toDto(current)));
+            entries.put(eventId, entry);
+        }
+
+        return Optional.of(entry.json);
+    }
+
+    public static AvailabilityDto toDto(EventInventory inventory)
+    {
+        EventInventory.Seats seats = inventory.seats();
+        SeatLayout layout = seats.layout();
+        List<SeatRowAvailabilityDto> rows = new ArrayList<>(layout.rowCount());
+        int available = 0;
+
+        for (int row = 0; row < layout.rowCount(); ++row)
+        {
+            int[] ordinals = layout.rowOrdinals(row);
+            int[] seatNumbers = layout.rowSeatNumbers(row);
+            int[] runs = new int[ordinals.length * 2];
+            int runsLength = 0;
+            boolean previousFree = false;
+
+            for (int i = 0; i < ordinals.length; ++i)
+            {
+                boolean free = !seats.isTakenOrdinal(ordinals[i]);
+
+                if (free)
+                {
+                    ++available;
+
+                    if (previousFree && seatNumbers[i - 1] + 1 == seatNumbers[i])
+                    {
+                        runs[runsLength - 1] = seatNumbers[i];
+                    }
+                    else
+                    {
+                        runs[runsLength++] = seatNumbers[i];
+                        runs[runsLength++] = seatNumbers[i];
+                    }
+                }
+
+                previousFree = free;
+            }
+
+            rows.add(SeatRowAvailabilityDto.create(layout.seatRow(row), Arrays.copyOf(runs, runsLength)));
+        }
+
+        return AvailabilityDto.create(inventory.eventId(), layout.seatCount(), available, rows);
+    }
+
+    private static final class Entry
+    {
+        private final EventInventory inventory;
+        private final long version;
+        private final String json;
+
+        private Entry(EventInventory inventory, long version, String json)
+        {
+            this.inventory = inventory;
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.booking;
+
+import com.google.auto.value.AutoValue;
+import org.example.dto.TicketDto;
+
+import java.util.Optional;
+
+@AutoValue
+public abstract class BookingResult
+{
+    public enum Status
+    {
+        BOOKED,
+        SEAT_TAKEN,
+        INVALID,
+        FAILED,
+        ABORTED,
+        BUSY
+    }
+
+    public abstract Status status();
+    public abstract Optional<TicketDto> ticket();
+
+    public static BookingResult booked(TicketDto ticketDto)
+    {
+        return new AutoValue_BookingResult(Status.BOOKED, Optional.of(ticketDto));
+    }
+
+    public static BookingResult of(Status status)
+    {
+        return new AutoValue_BookingResult(status, Optional.empty());
+    }
+
+    public static BookingResult fromClaim(ClaimResult claimResult)
+    {
+        return switch (claimResult)
+        {
+            case CLAIMED -> throw new IllegalArgumentException("Successful claim is not a booking result");
+            case TAKEN -> of(Status.SEAT_TAKEN);
+            case UNKNOWN_SEAT, UNKNOWN_EVENT -> of(Status.INVALID);
+        };
+    }
+}
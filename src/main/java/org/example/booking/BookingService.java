@@ -0,0 +1,257 @@
+package org.example.booking;
+
+import org.example.dao.TicketDao;
+import org.example.dto.TicketDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class BookingService
+{
+    private static final Logger log = LoggerFactory.getLogger(BookingService.class);
+    private static final int MAX_MODIFY_ATTEMPTS = 3;
+    private final TicketDao ticketDao;
+    private final SeatInventory seatInventory;
+    private final BookingShards shards;
+
+    public BookingService(TicketDao ticketDao, SeatInventory seatInventory, BookingShards shards)
+    {
+        this.ticketDao = ticketDao;
+        this.seatInventory = seatInventory;
+        this.shards = shards;
+    }
+
+    public BookingResult book(TicketDto ticketDto)
+    {
+        return shards.execute(ticketDto.eventId(), () -> bookOnShard(ticketDto))
+                .orElseGet(() -> BookingResult.of(BookingResult.Status.BUSY));
+    }
+
+    // Results are returned in input order; in atomic mode a single failure aborts every item
+    public List<BookingResult> bookBatch(List<TicketDto> ticketDtos, boolean atomic)
+    {
+        int eventId = ticketDtos.get(0).eventId();
+
+        // Claims are atomic per seat, so a batch spanning several events is still correct off the shards
+        if (ticketDtos.stream().anyMatch(ticketDto -> ticketDto.eventId() != eventId))
+        {
+            return bookBatchOnShard(ticketDtos, atomic);
+        }
+
+        return shards.execute(eventId, () -> bookBatchOnShard(ticketDtos, atomic))
+                .orElseGet(() -> ticketDtos.stream()
+                        .map(ticketDto -> BookingResult.of(BookingResult.Status.BUSY))
+                        .toList());
+    }
+
+    // Runs on the shard of the ticket's current event, so two requests moving the same ticket cannot both claim a seat;
+    // a ticket that was moved to another event while the request was queued is routed again
+    public BookingResult modify(TicketDto ticketDto)
+    {
+        for (int attempt = 0; attempt < MAX_MODIFY_ATTEMPTS; ++attempt)
+        {
+            Optional<TicketDto> existing = ticketDao.findTicketById(ticketDto.ticketId());
+
+            if (existing.isEmpty())
+            {
+                return BookingResult.of(BookingResult.Status.FAILED);
+            }
+
+            int eventId = existing.get().eventId();
+            Optional<Optional<BookingResult>> result = shards.execute(eventId, () -> modifyOnShard(eventId, ticketDto));
+
+            if (result.isEmpty())
+            {
+                return BookingResult.of(BookingResult.Status.BUSY);
+            }
+
+            if (result.get().isPresent())
+            {
+                return result.get().get();
+            }
+        }
+
+        return BookingResult.of(BookingResult.Status.BUSY);
+    }
+
+    private BookingResult bookOnShard(TicketDto ticketDto)
+    {
+        ClaimResult claim = seatInventory.claim(ticketDto.eventId(), ticketDto.seatId());
+
+        if (claim != ClaimResult.CLAIMED)
+        {
+            log.info("Seat {} of event {} cannot be claimed: {}", ticketDto.seatId(), ticketDto.eventId(), claim);
+            return BookingResult.fromClaim(claim);
+        }
+
+        Optional<TicketDto> result = ticketDao.addTicket(ticketDto);
+
+        if (result.isEmpty())
+        {
+            seatInventory.release(ticketDto.eventId(), ticketDto.seatId());
+            return BookingResult.of(BookingResult.Status.FAILED);
+        }
+
+        return BookingResult.booked(result.get());
+    }
+
+    private List<BookingResult> bookBatchOnShard(List<TicketDto> ticketDtos, boolean atomic)
+    {
+        List<BookingResult> results = new ArrayList<>(ticketDtos.size());
+        List<TicketDto> claimed = new ArrayList<>(ticketDtos.size());
+        Set<Long> seen = new HashSet<>();
+        boolean failed = false;
+
+        for (TicketDto ticketDto : ticketDtos)
+        {
+            if (!seen.add(seatKey(ticketDto)))
+            {
+                results.add(BookingResult.of(BookingResult.Status.INVALID));
+                failed = true;
+                continue;
+            }
+
+            ClaimResult claim = seatInventory.claim(ticketDto.eventId(), ticketDto.seatId());
+
+            if (claim == ClaimResult.CLAIMED)
+            {
+                claimed.add(ticketDto);
+                results.add(null);
+            }
+            else
+            {
+                results.add(BookingResult.fromClaim(claim));
+                failed = true;
+            }
+        }
+
+        if (atomic && failed)
+        {
+            releaseAll(claimed);
+            results.replaceAll(result -> result == null ? BookingResult.of(BookingResult.Status.ABORTED) : result);
+            return results;
+        }
+
+        return atomic ? insertAll(ticketDtos, claimed, results) : insertEach(ticketDtos, claimed, results);
+    }
+
+    // One multi-row insert: a rejected row aborts every claimed item
+    private List<BookingResult> insertAll(List<TicketDto> ticketDtos, List<TicketDto> claimed, List<BookingResult> results)
+    {
+        Optional<List<TicketDto>> added = ticketDao.addTickets(claimed);
+
+        if (added.isEmpty())
+        {
+            releaseAll(claimed);
+            results.replaceAll(result -> result == null ? BookingResult.of(BookingResult.Status.ABORTED) : result);
+            return results;
+        }
+
+        Map<Long, TicketDto> bySeat = new HashMap<>();
+        added.get().forEach(ticket -> bySeat.put(seatKey(ticket), ticket));
+
+        for (int i = 0; i < results.size(); ++i)
+        {
+            if (results.get(i) == null)
+            {
+                results.set(i, BookingResult.booked(bySeat.get(seatKey(ticketDtos.get(i)))));
+            }
+        }
+
+        return results;
+    }
+
+    // Row by row: only the items whose insert failed lose their seat and are reported as FAILED
+    private List<BookingResult> insertEach(List<TicketDto> ticketDtos, List<TicketDto> claimed, List<BookingResult> results)
+    {
+        List<Optional<TicketDto>> added = ticketDao.addTicketsIndividually(claimed);
+        int next = 0;
+
+        for (int i = 0; i < results.size(); ++i)
+        {
+            if (results.get(i) == null)
+            {
+                Optional<TicketDto> ticket = added.get(next++);
+
+                if (ticket.isPresent())
+                {
+                    results.set(i, BookingResult.booked(ticket.get()));
+                }
+                else
+                {
+                    seatInventory.release(ticketDtos.get(i).eventId(), ticketDtos.get(i).seatId());
+                    results.set(i, BookingResult.of(BookingResult.Status.FAILED));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    // Empty when the ticket no longer belongs to the event whose shard runs the modification
+    private Optional<BookingResult> modifyOnShard(int eventId, TicketDto ticketDto)
+    {
+        Optional<TicketDto> existing = ticketDao.findTicketById(ticketDto.ticketId());
+
+        if (existing.isEmpty())
+        {
+            return Optional.of(BookingResult.of(BookingResult.Status.FAILED));
+        }
+
+        TicketDto previous = existing.get();
+
+        if (previous.eventId() != eventId)
+        {
+            return Optional.empty();
+        }
+
+        boolean seatChanged = previous.eventId() != ticketDto.eventId() || previous.seatId() != ticketDto.seatId();
+
+        if (seatChanged)
+        {
+            ClaimResult claim = seatInventory.claim(ticketDto.eventId(), ticketDto.seatId());
+
+            if (claim != ClaimResult.CLAIMED)
+            {
+                log.info("Seat {} of event {} cannot be claimed: {}", ticketDto.seatId(), ticketDto.eventId(), claim);
+                return Optional.of(BookingResult.fromClaim(claim));
+            }
+        }
+
+        Optional<TicketDto> result = ticketDao.modifyTicket(ticketDto);
+
+        if (result.isEmpty())
+        {
+            if (seatChanged)
+            {
+                seatInventory.release(ticketDto.eventId(), ticketDto.seatId());
+            }
+
+            return Optional.of(BookingResult.of(BookingResult.Status.FAILED));
+        }
+
+        if (seatChanged)
+        {
+            seatInventory.release(previous.eventId(), previous.seatId());
+        }
+
+        return Optional.of(BookingResult.booked(result.get()));
+    }
+
+    private void releaseAll(List<TicketDto> ticketDtos)
+    {
+        ticketDtos.forEach(ticketDto -> seatInventory.release(ticketDto.eventId(), ticketDto.seatId()));
+    }
+
+    private static long seatKey(TicketDto ticketDto)
+    {
+        return ((long) ticketDto.eventId() << 32) | (ticketDto.seatId() & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.booking;
+
+import org.example.config.Config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// One single-threaded executor per shard, so all work for an event runs in submission order without locking
+public class BookingShards
+{
+    private final ThreadPoolExecutor[] shards;
+    private final int queueSize;
+    private final LongAdder rejected = new LongAdder();
+
+    public BookingShards(int shardCount, int queueSize)
+    {
+        if (shardCount < 1 || queueSize < 1)
+        {
+            throw new IllegalArgumentException("Shard count and queue size must be positive");
+        }
+
+        this.shards = new ThreadPoolExecutor[shardCount];
+        this.queueSize = queueSize;
+
+        for (int i = 0; i < shardCount; ++i)
+        {
+            String name = "booking-shard-" + i;
+
+            shards[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                    task -> {
+                        Thread thread = new Thread(task, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    public static BookingShards fromConfig()
+    {
+        return new BookingShards(Config.getInt("booking.shards", Runtime.getRuntime().availableProcessors()),
+                Config.getInt("booking.shards.queueSize", 1024));
+    }
+
+    // Empty when the shard's queue is full; the caller waits for the result otherwise
+    public <T> Optional<T> execute(int eventId, Supplier<T> work)
+    {
+        FutureTask<T> task = new FutureTask<>(work::get);
+
+        try
+        {
+            shards[Math.floorMod(eventId, shards.length)].execute(task);
+        }
+        catch (RejectedExecutionException e)
+        {
+            rejected.increment();
+            return Optional.empty();
+        }
+
+        try
+        {
+            return Optional.of(task.get());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for booking shard", e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+
+            if (e.getCause() instanceof Error error)
+            {
+                throw error;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void shutdown()
+    {
+        for (ThreadPoolExecutor shard : shards)
+        {
+            shard.shutdown();
+        }
+    }
+
+    // Waits for the queued bookings of every shard, all shards sharing one deadline; false if some were still running
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        for (ThreadPoolExecutor shard : shards)
+        {
+            if (!shard.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        List<Integer> queued = new ArrayList<>(shards.length);
+        long completed = 0;
+
+        for (ThreadPoolExecutor shard : shards)
+        {
+            queued.add(shard.getQueue().size());
+            completed += shard.getCompletedTaskCount();
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("shards", shards.length);
+        snapshot.put("queueSize", queueSize);
+        snapshot.put("queued", queued);
+        snapshot.put("completed", completed);
+        snapshot.put("rejected", rejected.sum());
+
+        return snapshot;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.booking;
+
+public enum ClaimResult
+{
+    CLAIMED,
+    TAKEN,
+    UNKNOWN_SEAT,
+    UNKNOWN_EVENT
+}
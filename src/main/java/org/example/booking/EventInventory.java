@@ -0,0 +1,170 @@
+package org.example.booking;
+
+import org.example.util.AtomicBitSet;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+// Claims and releases are lock-free among themselves; they only wait while relayout() moves the taken seats to a
+// changed venue layout, so a seat claimed during the move is never lost
+public class EventInventory
+{
+    private final int eventId;
+    private final int venueId;
+    private final LongAdder changes = new LongAdder();
+    private final StampedLock layoutChange = new StampedLock();
+    private volatile Seats seats;
+
+    public EventInventory(int eventId, int venueId, SeatLayout layout)
+    {
+        this.eventId = eventId;
+        this.venueId = venueId;
+        this.seats = new Seats(layout, new AtomicBitSet(layout.seatCount()));
+    }
+
+    public int eventId()
+    {
+        return eventId;
+    }
+
+    public int venueId()
+    {
+        return venueId;
+    }
+
+    // A layout together with its taken seats; read both from one snapshot, since relayout() replaces them together
+    public Seats seats()
+    {
+        return seats;
+    }
+
+    public int seatCount()
+    {
+        return seats.layout().seatCount();
+    }
+
+    public int takenCount()
+    {
+        return seats.taken.cardinality();
+    }
+
+    // Grows on every successful claim or release, so cached views can tell they are stale
+    public long version()
+    {
+        return changes.sum();
+    }
+
+    public ClaimResult claim(int seatId)
+    {
+        long stamp = layoutChange.readLock();
+
+        try
+        {
+            Seats current = seats;
+            int ordinal = current.layout().ordinalOf(seatId);
+
+            if (ordinal < 0)
+            {
+                return ClaimResult.UNKNOWN_SEAT;
+            }
+
+            if (!current.taken.trySet(ordinal))
+            {
+                return ClaimResult.TAKEN;
+            }
+        }
+        finally
+        {
+            layoutChange.unlockRead(stamp);
+        }
+
+        changes.increment();
+        return ClaimResult.CLAIMED;
+    }
+
+    public boolean release(int seatId)
+    {
+        long stamp = layoutChange.readLock();
+
+        try
+        {
+            Seats current = seats;
+            int ordinal = current.layout().ordinalOf(seatId);
+
+            if (ordinal < 0 || !current.taken.clear(ordinal))
+            {
+                return false;
+            }
+        }
+        finally
+        {
+            layoutChange.unlockRead(stamp);
+        }
+
+        changes.increment();
+        return true;
+    }
+
+    public boolean isTaken(int seatId)
+    {
+        Seats current = seats;
+        int ordinal = current.layout().ordinalOf(seatId);
+
+        return ordinal >= 0 && current.isTakenOrdinal(ordinal);
+    }
+
+    // Carries every claimed or held seat that is still part of the venue over to the new layout
+    public void relayout(SeatLayout layout)
+    {
+        long stamp = layoutChange.writeLock();
+
+        try
+        {
+            Seats current = seats;
+            AtomicBitSet taken = new AtomicBitSet(layout.seatCount());
+
+            for (int ordinal = 0; ordinal < current.layout().seatCount(); ++ordinal)
+            {
+                if (current.isTakenOrdinal(ordinal))
+                {
+                    int moved = layout.ordinalOf(current.layout().seatIdAt(ordinal));
+
+                    if (moved >= 0)
+                    {
+                        taken.trySet(moved);
+                    }
+                }
+            }
+
+            seats = new Seats(layout, taken);
+        }
+        finally
+        {
+            layoutChange.unlockWrite(stamp);
+        }
+
+        changes.increment();
+    }
+
+    public static final class Seats
+    {
+        private final SeatLayout layout;
+        private final AtomicBitSet taken;
+
+        private Seats(SeatLayout layout, AtomicBitSet taken)
+        {
+            this.layout = layout;
+            this.taken = taken;
+        }
+
+        public SeatLayout layout()
+        {
+            return layout;
+        }
+
+        public boolean isTakenOrdinal(int ordinal)
+        {
+            return taken.get(ordinal);
+        }
+    }
+}
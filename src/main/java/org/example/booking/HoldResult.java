@@ -0,0 +1,42 @@
+package org.example.booking;
+
+import com.google.auto.value.AutoValue;
+import org.example.dto.HoldDto;
+import org.example.dto.TicketDto;
+
+import java.util.List;
+import java.util.Optional;
+
+@AutoValue
+public abstract class HoldResult
+{
+    public enum Status
+    {
+        HELD,
+        CONFIRMED,
+        RELEASED,
+        SEAT_TAKEN,
+        INVALID,
+        NOT_FOUND,
+        FAILED
+    }
+
+    public abstract Status status();
+    public abstract Optional<HoldDto> hold();
+    public abstract List<TicketDto> tickets();
+
+    public static HoldResult of(Status status)
+    {
+        return new AutoValue_HoldResult(status, Optional.empty(), List.of());
+    }
+
+    public static HoldResult of(Status status, HoldDto holdDto)
+    {
+        return new AutoValue_HoldResult(status, Optional.of(holdDto), List.of());
+    }
+
+    public static HoldResult confirmed(HoldDto holdDto, List<TicketDto> tickets)
+    {
+        return new AutoValue_HoldResult(Status.CONFIRMED, Optional.of(holdDto), List.copyOf(tickets));
+    }
+}
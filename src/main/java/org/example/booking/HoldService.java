@@ -0,0 +1,173 @@
+package org.example.booking;
+
+import org.example.config.Config;
+import org.example.dao.TicketDao;
+import org.example.dto.HoldDto;
+import org.example.dto.HoldRequestDto;
+import org.example.dto.TicketDto;
+import org.example.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HoldService
+{
+    private static final Logger log = LoggerFactory.getLogger(HoldService.class);
+    private final TicketDao ticketDao;
+    private final SeatInventory seatInventory;
+    private final TimingWheel timingWheel;
+    private final ConcurrentHashMap<Integer, Hold> holds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextHoldId = new AtomicInteger();
+    private final long defaultTtlSeconds = Config.getLong("hold.ttlSeconds", 600);
+    private final long maxTtlSeconds = Config.getLong("hold.maxTtlSeconds", 1800);
+    private final int maxSeats = Config.getInt("hold.maxSeats", 20);
+
+    public HoldService(TicketDao ticketDao, SeatInventory seatInventory, TimingWheel timingWheel)
+    {
+        this.ticketDao = ticketDao;
+        this.seatInventory = seatInventory;
+        this.timingWheel = timingWheel;
+    }
+
+    public HoldResult hold(int eventId, HoldRequestDto request, long ttlSeconds)
+    {
+        List<Integer> seatIds = request.seatIds();
+
+        if (seatIds.isEmpty() || seatIds.size() > maxSeats || new HashSet<>(seatIds).size() != seatIds.size())
+        {
+            return HoldResult.of(HoldResult.Status.INVALID);
+        }
+
+        List<Integer> claimed = new ArrayList<>(seatIds.size());
+
+        for (int seatId : seatIds)
+        {
+            ClaimResult claim = seatInventory.claim(eventId, seatId);
+
+            if (claim != ClaimResult.CLAIMED)
+            {
+                log.info("Seat {} of event {} cannot be held: {}", seatId, eventId, claim);
+                claimed.forEach(claimedSeatId -> seatInventory.release(eventId, claimedSeatId));
+
+                return HoldResult.of(claim == ClaimResult.TAKEN ? HoldResult.Status.SEAT_TAKEN : HoldResult.Status.INVALID);
+            }
+
+            claimed.add(seatId);
+        }
+
+        long ttl = ttlSeconds <= 0 ? defaultTtlSeconds : Math.min(ttlSeconds, maxTtlSeconds);
+        HoldDto holdDto = HoldDto.create(nextHoldId.incrementAndGet(), eventId, request.userId(), seatIds,
+                LocalDateTime.now().plusSeconds(ttl));
+
+        Hold hold = new Hold(holdDto);
+        holds.put(holdDto.holdId(), hold);
+        hold.timeout = timingWheel.schedule(() -> expire(hold), ttl, TimeUnit.SECONDS);
+
+        return HoldResult.of(HoldResult.Status.HELD, holdDto);
+    }
+
+    public HoldResult confirm(int eventId, int holdId)
+    {
+        Optional<Hold> removed = remove(eventId, holdId);
+
+        if (removed.isEmpty())
+        {
+            return HoldResult.of(HoldResult.Status.NOT_FOUND);
+        }
+
+        HoldDto holdDto = removed.get().holdDto;
+        LocalDateTime bookedAt = LocalDateTime.now();
+        List<TicketDto> tickets = holdDto.seatIds().stream()
+                .map(seatId -> TicketDto.create(0, eventId, seatId, holdDto.userId(), bookedAt))
+                .toList();
+
+        Optional<List<TicketDto>> result = ticketDao.addTickets(tickets);
+
+        if (result.isEmpty())
+        {
+            releaseSeats(holdDto);
+            return HoldResult.of(HoldResult.Status.FAILED, holdDto);
+        }
+
+        return HoldResult.confirmed(holdDto, result.get());
+    }
+
+    public HoldResult release(int eventId, int holdId)
+    {
+        Optional<Hold> removed = remove(eventId, holdId);
+
+        if (removed.isEmpty())
+        {
+            return HoldResult.of(HoldResult.Status.NOT_FOUND);
+        }
+
+        releaseSeats(removed.get().holdDto);
+
+        return HoldResult.of(HoldResult.Status.RELEASED, removed.get().holdDto);
+    }
+
+    public List<Integer> heldSeats(int eventId)
+    {
+        return holds.values().stream()
+                .filter(hold -> hold.holdDto.eventId() == eventId)
+                .flatMap(hold -> hold.holdDto.seatIds().stream())
+                .toList();
+    }
+
+    public int activeHolds()
+    {
+        return holds.size();
+    }
+
+    private Optional<Hold> remove(int eventId, int holdId)
+    {
+        Hold hold = holds.get(holdId);
+
+        if (hold == null || hold.holdDto.eventId() != eventId || !holds.remove(holdId, hold))
+        {
+            return Optional.empty();
+        }
+
+        TimingWheel.Timeout timeout = hold.timeout;
+
+        if (timeout != null)
+        {
+            timeout.cancel();
+        }
+
+        return Optional.of(hold);
+    }
+
+    private void expire(Hold hold)
+    {
+        if (holds.remove(hold.holdDto.holdId(), hold))
+        {
+            log.info("Hold {} of event {} expired", hold.holdDto.holdId(), hold.holdDto.eventId());
+            releaseSeats(hold.holdDto);
+        }
+    }
+
+    private void releaseSeats(HoldDto holdDto)
+    {
+        holdDto.seatIds().forEach(seatId -> seatInventory.release(holdDto.eventId(), seatId));
+    }
+
+    private static final class Hold
+    {
+        private final HoldDto holdDto;
+        private volatile TimingWheel.Timeout timeout;
+
+        private Hold(HoldDto holdDto)
+        {
+            this.holdDto = holdDto;
+        }
+    }
+}
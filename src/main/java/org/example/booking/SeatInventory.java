@@ -0,0 +1,178 @@
+package org.example.booking;
+
+import org.example.dao.EventDao;
+import org.example.dao.Page;
+import org.example.dao.SeatDao;
+import org.example.dao.TicketDao;
+import org.example.dto.EventDto;
+import org.example.dto.TicketDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+public class SeatInventory
+{
+    private static final Logger log = LoggerFactory.getLogger(SeatInventory.class);
+    private final EventDao eventDao;
+    private final SeatDao seatDao;
+    private final TicketDao ticketDao;
+    private final ConcurrentHashMap<Integer, EventInventory> inventories = new ConcurrentHashMap<>();
+    private final AtomicLong layoutChanges = new AtomicLong();
+    private final ReentrantLock layoutRefresh = new ReentrantLock();
+    private volatile IntFunction<List<Integer>> heldSeats = eventId -> List.of();
+
+    public SeatInventory(EventDao eventDao, SeatDao seatDao, TicketDao ticketDao)
+    {
+        this.eventDao = eventDao;
+        this.seatDao = seatDao;
+        this.ticketDao = ticketDao;
+    }
+
+    public void setHeldSeats(IntFunction<List<Integer>> heldSeats)
+    {
+        this.heldSeats = heldSeats;
+    }
+
+    public void rebuild()
+    {
+        log.info("Rebuilding seat inventory");
+
+        Map<Integer, SeatLayout> layoutsByVenue = new HashMap<>();
+        Map<Integer, EventInventory> rebuilt = new HashMap<>();
+
+        for (EventDto event : eventDao.findEvents())
+        {
+            SeatLayout layout = layoutsByVenue.computeIfAbsent(event.venueId(), this::loadLayout);
+            rebuilt.put(event.eventId(), new EventInventory(event.eventId(), event.venueId(), layout));
+        }
+
+        Page.forEachRow(ticketDao::findTickets, ticket -> {
+            EventInventory inventory = rebuilt.get(ticket.eventId());
+
+            if (inventory != null)
+            {
+                inventory.claim(ticket.seatId());
+            }
+        });
+
+        inventories.clear();
+        inventories.putAll(rebuilt);
+
+        log.info("Seat inventory rebuilt for {} events", rebuilt.size());
+    }
+
+    public ClaimResult claim(int eventId, int seatId)
+    {
+        return forEvent(eventId)
+                .map(inventory -> inventory.claim(seatId))
+                .orElse(ClaimResult.UNKNOWN_EVENT);
+    }
+
+    public void release(int eventId, int seatId)
+    {
+        forEvent(eventId).ifPresent(inventory -> inventory.release(seatId));
+    }
+
+    // Loaded outside computeIfAbsent so JDBC never runs under the map's bin lock (pins virtual threads)
+    public Optional<EventInventory> forEvent(int eventId)
+    {
+        EventInventory inventory = inventories.get(eventId);
+
+        if (inventory != null)
+        {
+            return Optional.of(inventory);
+        }
+
+        long changesBeforeLoad = layoutChanges.get();
+        EventInventory loaded = load(eventId);
+
+        if (loaded == null)
+        {
+            return Optional.empty();
+        }
+
+        EventInventory existing = inventories.putIfAbsent(eventId, loaded);
+
+        if (existing != null)
+        {
+            return Optional.of(existing);
+        }
+
+        // A seat write during the load may have refreshed the other events of the venue but not this one
+        if (layoutChanges.get() != changesBeforeLoad)
+        {
+            refreshVenue(loaded.venueId());
+        }
+
+        return Optional.of(loaded);
+    }
+
+    // Serialized so that layouts read for the same venue by concurrent seat writes are applied in order; a lock rather
+    // than synchronized, since the layout is read over JDBC (pins virtual threads)
+    public void refreshVenue(int venueId)
+    {
+        log.info("Refreshing seat layout of events with venue id: {}", venueId);
+
+        layoutRefresh.lock();
+
+        try
+        {
+            layoutChanges.incrementAndGet();
+            SeatLayout layout = null;
+
+            for (EventInventory inventory : inventories.values())
+            {
+                if (inventory.venueId() == venueId)
+                {
+                    if (layout == null)
+                    {
+                        layout = loadLayout(venueId);
+                    }
+
+                    inventory.relayout(layout);
+                }
+            }
+        }
+        finally
+        {
+            layoutRefresh.unlock();
+        }
+    }
+
+    private EventInventory load(int eventId)
+    {
+        Optional<EventDto> event = eventDao.findEventById(eventId);
+
+        if (event.isEmpty())
+        {
+            return null;
+        }
+
+        EventInventory inventory = new EventInventory(eventId, event.get().venueId(), loadLayout(event.get().venueId()));
+
+        for (TicketDto ticket : ticketDao.findTicketsByEventId(eventId))
+        {
+            inventory.claim(ticket.seatId());
+        }
+
+        for (int seatId : heldSeats.apply(eventId))
+        {
+            inventory.claim(seatId);
+        }
+
+        return inventory;
+    }
+
+    private SeatLayout loadLayout(int venueId)
+    {
+        return SeatLayout.of(seatDao.findSeatsByVenue(venueId));
+    }
+}
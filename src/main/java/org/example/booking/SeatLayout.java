@@ -0,0 +1,97 @@
+package org.example.booking;
+
+import org.example.dto.SeatDto;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public class SeatLayout
+{
+    private final int[] seatIds;
+    private final String[] seatRows;
+    private final int[][] rowOrdinals;
+    private final int[][] rowSeatNumbers;
+
+    private SeatLayout(int[] seatIds, String[] seatRows, int[][] rowOrdinals, int[][] rowSeatNumbers)
+    {
+        this.seatIds = seatIds;
+        this.seatRows = seatRows;
+        this.rowOrdinals = rowOrdinals;
+        this.rowSeatNumbers = rowSeatNumbers;
+    }
+
+    public static SeatLayout of(List<SeatDto> seats)
+    {
+        int[] seatIds = seats.stream()
+                .mapToInt(SeatDto::seatId)
+                .sorted()
+                .toArray();
+
+        Map<String, List<SeatDto>> byRow = seats.stream()
+                .collect(Collectors.groupingBy(SeatDto::seatRow, TreeMap::new, Collectors.toList()));
+
+        String[] seatRows = new String[byRow.size()];
+        int[][] rowOrdinals = new int[byRow.size()][];
+        int[][] rowSeatNumbers = new int[byRow.size()][];
+        int row = 0;
+
+        for (Map.Entry<String, List<SeatDto>> entry : byRow.entrySet())
+        {
+            List<SeatDto> rowSeats = entry.getValue().stream()
+                    .sorted(Comparator.comparingInt(SeatDto::seatNumber))
+                    .toList();
+
+            seatRows[row] = entry.getKey();
+            rowOrdinals[row] = rowSeats.stream()
+                    .mapToInt(seat -> Arrays.binarySearch(seatIds, seat.seatId()))
+                    .toArray();
+            rowSeatNumbers[row] = rowSeats.stream()
+                    .mapToInt(SeatDto::seatNumber)
+                    .toArray();
+            ++row;
+        }
+
+        return new SeatLayout(seatIds, seatRows, rowOrdinals, rowSeatNumbers);
+    }
+
+    public int seatCount()
+    {
+        return seatIds.length;
+    }
+
+    public int ordinalOf(int seatId)
+    {
+        int index = Arrays.binarySearch(seatIds, seatId);
+
+        return index >= 0 ? index : -1;
+    }
+
+    public int seatIdAt(int ordinal)
+    {
+        return seatIds[ordinal];
+    }
+
+    public int rowCount()
+    {
+        return seatRows.length;
+    }
+
+    public String seatRow(int row)
+    {
+        return seatRows[row];
+    }
+
+    public int[] rowOrdinals(int row)
+    {
+        return rowOrdinals[row];
+    }
+
+    public int[] rowSeatNumbers(int row)
+    {
+        return rowSeatNumbers[row];
+    }
+}
@@ -0,0 +1,297 @@
+package org.example.booking;
+
+import org.example.config.Config;
+import org.example.dto.QueueTokenDto;
+import org.example.util.TimingWheel;
+
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.LongSupplier;
+
+// Tokens of one event are numbered in arrival order and an admission line moves over them at the event's rate;
+// a token is admitted once the line has passed its number, so polling is a map lookup and two volatile reads
+public class WaitingRoom
+{
+    private static final long ADVANCE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long NOT_ADMITTED = Long.MIN_VALUE;
+
+    private final IntToDoubleFunction rateOf;
+    private final TimingWheel timingWheel;
+    private final long tokenTtlSeconds;
+    private final long admittedTtlNanos;
+    private final long maxTokens;
+    private final int admittedUses;
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Token> tokens = new ConcurrentHashMap<>();
+    private final AtomicLong liveTokens = new AtomicLong();
+    private final ConcurrentHashMap<Integer, EventQueue> queues = new ConcurrentHashMap<>();
+
+    public WaitingRoom(IntToDoubleFunction rateOf, TimingWheel timingWheel, long tokenTtlSeconds, long admittedTtlSeconds,
+                       long maxTokens, int admittedUses, LongSupplier clock)
+    {
+        if (admittedUses < 1)
+        {
+            throw new IllegalArgumentException("Admitted token uses must be positive");
+        }
+
+        this.rateOf = rateOf;
+        this.timingWheel = timingWheel;
+        this.tokenTtlSeconds = tokenTtlSeconds;
+        this.admittedTtlNanos = TimeUnit.SECONDS.toNanos(admittedTtlSeconds);
+        this.maxTokens = maxTokens;
+        this.admittedUses = admittedUses;
+        this.clock = clock;
+    }
+
+    // Rates are read once here: isGated runs on every booking, and a malformed rate fails the startup
+    public static WaitingRoom fromConfig(TimingWheel timingWheel)
+    {
+        Map<String, String> configured = Config.getByPrefix("queue.rate.");
+        double defaultRate = Double.parseDouble(configured.getOrDefault("default", "0").trim());
+        Map<Integer, Double> rates = new HashMap<>();
+
+        configured.forEach((key, value) -> {
+            if (!key.equals("default"))
+            {
+                rates.put(Integer.parseInt(key.trim()), Double.parseDouble(value.trim()));
+            }
+        });
+
+        return new WaitingRoom(eventId -> rates.getOrDefault(eventId, defaultRate), timingWheel,
+                Config.getLong("queue.tokenTtlSeconds", 3600), Config.getLong("queue.admittedTtlSeconds", 900),
+                Config.getLong("queue.maxTokens", 1_000_000), Config.getInt("queue.admittedUses", 5), System::nanoTime);
+    }
+
+    // Events without a positive rate are open, their bookings need no token
+    public boolean isGated(int eventId)
+    {
+        return rateOf.applyAsDouble(eventId) > 0;
+    }
+
+    // Empty when the room is full; a place is reserved before the token is created, so concurrent entries cannot
+    // overshoot maxTokens
+    public Optional<QueueTokenDto> enter(int eventId)
+    {
+        if (liveTokens.incrementAndGet() > maxTokens)
+        {
+            liveTokens.decrementAndGet();
+            return Optional.empty();
+        }
+
+        long now = clock.getAsLong();
+        EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue(rateOf.applyAsDouble(id), now));
+        String value = newTokenValue();
+        Token token = new Token(eventId, queue.issue(now), admittedUses);
+
+        tokens.put(value, token);
+        timingWheel.schedule(() -> remove(value, token), tokenTtlSeconds, TimeUnit.SECONDS);
+
+        return Optional.of(toDto(value, token, queue, now));
+    }
+
+    public Optional<QueueTokenDto> status(String value)
+    {
+        Token token = tokens.get(value);
+
+        if (token == null)
+        {
+            return Optional.empty();
+        }
+
+        long now = clock.getAsLong();
+        return Optional.of(toDto(value, token, queues.get(token.eventId), now));
+    }
+
+    // An admitted token stays valid for the admitted TTL, counted from the first time it was seen admitted, and for
+    // queue.admittedUses gated requests; every call that returns true uses it once
+    public boolean admits(String value, int eventId)
+    {
+        if (!isGated(eventId))
+        {
+            return true;
+        }
+
+        Token token = admittedToken(value, eventId);
+
+        if (token == null)
+        {
+            return false;
+        }
+
+        int usesLeft = token.usesLeft.decrementAndGet();
+
+        if (usesLeft <= 0)
+        {
+            remove(value, token);
+        }
+
+        return usesLeft >= 0;
+    }
+
+    // Same check as admits without using the token, so a request spanning several events can check all of them first
+    public boolean wouldAdmit(String value, int eventId)
+    {
+        if (!isGated(eventId))
+        {
+            return true;
+        }
+
+        Token token = admittedToken(value, eventId);
+        return token != null && token.usesLeft.get() > 0;
+    }
+
+    private Token admittedToken(String value, int eventId)
+    {
+        Token token = value == null ? null : tokens.get(value);
+
+        if (token == null || token.eventId != eventId)
+        {
+            return null;
+        }
+
+        long now = clock.getAsLong();
+
+        if (!isAdmitted(token, queues.get(eventId), now) || now - token.admittedAtNanos > admittedTtlNanos)
+        {
+            return null;
+        }
+
+        return token;
+    }
+
+    private void remove(String value, Token token)
+    {
+        if (tokens.remove(value, token))
+        {
+            liveTokens.decrementAndGet();
+        }
+    }
+
+    private QueueTokenDto toDto(String value, Token token, EventQueue queue, long now)
+    {
+        boolean admitted = isAdmitted(token, queue, now);
+        long position = admitted ? 0 : Math.max(1, token.sequence - queue.admitted);
+        long estimatedWaitSeconds = admitted ? 0 : (long) Math.ceil(position / queue.rate);
+
+        return QueueTokenDto.create(value, token.eventId, position, admitted, estimatedWaitSeconds);
+    }
+
+    private boolean isAdmitted(Token token, EventQueue queue, long now)
+    {
+        if (queue.admitted(now) < token.sequence)
+        {
+            return false;
+        }
+
+        if (token.admittedAtNanos == NOT_ADMITTED)
+        {
+            token.admittedAtNanos = now;
+        }
+
+        return true;
+    }
+
+    private String newTokenValue()
+    {
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private static final class Token
+    {
+        private final int eventId;
+        private final long sequence;
+        private final AtomicInteger usesLeft;
+        private volatile long admittedAtNanos = NOT_ADMITTED;
+
+        private Token(int eventId, long sequence, int uses)
+        {
+            this.eventId = eventId;
+            this.sequence = sequence;
+            this.usesLeft = new AtomicInteger(uses);
+        }
+    }
+
+    // The line only moves when someone issues or polls; credit is capped at one second of admissions (at least one)
+    // so an idle queue cannot save up a burst
+    private static final class EventQueue
+    {
+        private final double rate;
+        private final double burst;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long issued;
+        private volatile long admitted;
+        private volatile long lastNanos;
+        private double credit;
+
+        private EventQueue(double rate, long now)
+        {
+            this.rate = rate;
+            this.burst = Math.max(1, rate);
+            this.lastNanos = now;
+            this.credit = burst;
+        }
+
+        private long issue(long now)
+        {
+            lock.lock();
+            try
+            {
+                advance(now);
+                long sequence = ++issued;
+                advance(now);
+                return sequence;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        // Readers never wait: when another thread is already advancing they see the line as it was
+        private long admitted(long now)
+        {
+            if (now - lastNanos >= ADVANCE_INTERVAL_NANOS && lock.tryLock())
+            {
+                try
+                {
+                    advance(now);
+                }
+                finally
+                {
+                    lock.unlock();
+                }
+            }
+
+            return admitted;
+        }
+
+        private void advance(long now)
+        {
+            if (rate <= 0)
+            {
+                admitted = issued;
+                lastNanos = now;
+                return;
+            }
+
+            credit = Math.min(burst, credit + rate * Math.max(0, now - lastNanos) / 1e9);
+            lastNanos = now;
+
+            long admit = Math.min(issued - admitted, (long) credit);
+            admitted += admit;
+            credit -= admit;
+        }
+    }
+}
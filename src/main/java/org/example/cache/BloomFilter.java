@@ -0,0 +1,158 @@
+package org.example.cache;
+
+import org.example.config.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Set membership without false negatives: a key that was added is always reported as possibly present. Keys cannot be
+// removed, so keys that are no longer in use only raise the false positive rate until the filter is replaced by a
+// fresh one.
+public class BloomFilter
+{
+    private final String name;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLongArray words;
+
+    private final LongAdder setBits = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public BloomFilter(String name, long expectedKeys, double falsePositiveRate)
+    {
+        if (expectedKeys <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1)
+        {
+            throw new IllegalArgumentException("Expected keys must be positive and the false positive rate between 0 and 1");
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+
+        this.name = name;
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedKeys * ln2));
+    }
+
+    public static BloomFilter fromConfig(String name)
+    {
+        long expectedKeys = Config.getLong("bloom." + name + ".expectedKeys", 1_000_000);
+        double falsePositiveRate = Double.parseDouble(Config.get("bloom." + name + ".falsePositiveRate", "0.01").trim());
+
+        return new BloomFilter(name, expectedKeys, falsePositiveRate);
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    // A filter of the same size with no keys, to be filled and swapped in for this one
+    public BloomFilter emptyCopy()
+    {
+        return new BloomFilter(name, expectedKeys, falsePositiveRate);
+    }
+
+    public void add(String key)
+    {
+        long hash = hash(key);
+        long step = step(hash);
+
+        for (int i = 0; i < hashCount; ++i)
+        {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+
+            if ((previous & mask) == 0)
+            {
+                setBits.increment();
+            }
+        }
+
+        insertions.increment();
+    }
+
+    public boolean mightContain(String key)
+    {
+        long hash = hash(key);
+        long step = step(hash);
+
+        for (int i = 0; i < hashCount; ++i)
+        {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+            {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Called when a key reported as possibly present turned out to be absent
+    public void recordFalsePositive()
+    {
+        falsePositives.increment();
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        long set = setBits.sum();
+        long absent = definitelyAbsent.sum();
+        long falsePositive = falsePositives.sum();
+        double fillRatio = (double) set / bitCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("bits", bitCount);
+        snapshot.put("hashFunctions", hashCount);
+        snapshot.put("memoryBytes", bitCount / 8);
+        snapshot.put("insertions", insertions.sum());
+        snapshot.put("fillRatio", fillRatio);
+        snapshot.put("estimatedFalsePositiveRate", Math.pow(fillRatio, hashCount));
+        snapshot.put("definitelyAbsent", absent);
+        snapshot.put("falsePositives", falsePositive);
+        snapshot.put("observedFalsePositiveRate", absent + falsePositive == 0 ? 0.0 : (double) falsePositive / (absent + falsePositive));
+        return snapshot;
+    }
+
+    // FNV-1a over the characters, finished with the MurmurHash3 mixer so that similar keys spread over all bits
+    private static long hash(String key)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < key.length(); ++i)
+        {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    // Second hash of the Kirsch-Mitzenmacher scheme; odd so that it never collapses the probes onto one bit
+    private static long step(long hash)
+    {
+        return mix(hash + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long mix(long hash)
+    {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.cache;
+
+import org.example.dao.EventDao;
+import org.example.dto.EventDto;
+import org.jooq.DSLContext;
+
+import java.util.Optional;
+
+public class CachedEventDao extends EventDao
+{
+    private final ReadThroughCache<Integer, EventDto> cache;
+    private final EntityVersions versions;
+    private final SingleFlight flights;
+
+    public CachedEventDao(DSLContext dsl, ReadThroughCache<Integer, EventDto> cache, EntityVersions versions, SingleFlight flights)
+    {
+        super(dsl);
+        this.cache = cache;
+        this.versions = versions;
+        this.flights = flights;
+    }
+
+    @Override
+    public Optional<EventDto> findEventById(int eventId)
+    {
+        return cache.get(eventId, id -> flights.execute(id, () -> super.findEventById(id)));
+    }
+
+    @Override
+    public Optional<EventDto> addEvent(EventDto eventDto)
+    {
+        Optional<EventDto> result = super.addEvent(eventDto);
+        result.ifPresent(event -> {
+            flights.forget(event.eventId());
+            cache.invalidate(event.eventId());
+            versions.bump(event.eventId());
+        });
+        return result;
+    }
+
+    @Override
+    public Optional<EventDto> modifyEvent(EventDto eventDto)
+    {
+        Optional<EventDto> result = super.modifyEvent(eventDto);
+        flights.forget(eventDto.eventId());
+        cache.invalidate(eventDto.eventId());
+        versions.bump(eventDto.eventId());
+        return result;
+    }
+}
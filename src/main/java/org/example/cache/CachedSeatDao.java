@@ -0,0 +1,74 @@
+package org.example.cache;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.SeatDao;
+import org.example.dto.SeatDto;
+import org.jooq.DSLContext;
+
+import java.util.List;
+import java.util.Optional;
+
+public class CachedSeatDao extends SeatDao
+{
+    private final ReadThroughCache<Integer, SeatDto> cache;
+    private final EntityVersions versions;
+    private final SingleFlight flights;
+
+    public CachedSeatDao(DSLContext dsl, ReadThroughCache<Integer, SeatDto> cache, EntityVersions versions, SingleFlight flights)
+    {
+        super(dsl);
+        this.cache = cache;
+        this.versions = versions;
+        this.flights = flights;
+    }
+
+    @Override
+    public Optional<SeatDto> findSeatById(int seatId)
+    {
+        return cache.get(seatId, id -> flights.execute(id, () -> super.findSeatById(id)));
+    }
+
+    @Override
+    public List<SeatDto> findSeatsByVenue(int venueId)
+    {
+        return flights.execute(new VenueSeats(venueId), () -> super.findSeatsByVenue(venueId));
+    }
+
+    @Override
+    public Page<SeatDto> findSeatsByVenue(int venueId, PageRequest pageRequest)
+    {
+        return flights.execute(new VenueSeatsPage(venueId, pageRequest), () -> super.findSeatsByVenue(venueId, pageRequest));
+    }
+
+    @Override
+    public Optional<SeatDto> addSeat(SeatDto seatDto)
+    {
+        Optional<SeatDto> result = super.addSeat(seatDto);
+        result.ifPresent(seat -> {
+            flights.forgetAll();
+            cache.invalidate(seat.seatId());
+            versions.bump(seat.seatId());
+        });
+        return result;
+    }
+
+    // A seat can move between venues, so writes forget every in-flight lookup rather than only the new venue's
+    @Override
+    public Optional<SeatDto> modifySeat(SeatDto seatDto)
+    {
+        Optional<SeatDto> result = super.modifySeat(seatDto);
+        flights.forgetAll();
+        cache.invalidate(seatDto.seatId());
+        versions.bump(seatDto.seatId());
+        return result;
+    }
+
+    private record VenueSeats(int venueId)
+    {
+    }
+
+    private record VenueSeatsPage(int venueId, PageRequest pageRequest)
+    {
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.cache;
+
+import org.example.dao.TicketDao;
+import org.example.dto.TicketDto;
+import org.jooq.DSLContext;
+
+import java.util.List;
+import java.util.Optional;
+
+public class CachedTicketDao extends TicketDao
+{
+    private final NegativeCache<Integer> missing;
+    private final KnownMaxId maxId;
+
+    public CachedTicketDao(DSLContext dsl, NegativeCache<Integer> missing, KnownMaxId maxId)
+    {
+        super(dsl);
+        this.missing = missing;
+        this.maxId = maxId;
+    }
+
+    @Override
+    public Optional<TicketDto> findTicketById(int ticketId)
+    {
+        if (maxId.exceeds(ticketId))
+        {
+            missing.recordHit();
+            return Optional.empty();
+        }
+
+        return missing.get(ticketId, super::findTicketById);
+    }
+
+    @Override
+    public Optional<TicketDto> addTicket(TicketDto ticketDto)
+    {
+        Optional<TicketDto> result = super.addTicket(ticketDto);
+        result.ifPresent(this::created);
+        return result;
+    }
+
+    @Override
+    public Optional<List<TicketDto>> addTickets(List<TicketDto> ticketDtos)
+    {
+        Optional<List<TicketDto>> result = super.addTickets(ticketDtos);
+        result.ifPresent(tickets -> tickets.forEach(this::created));
+        return result;
+    }
+
+    @Override
+    public List<Optional<TicketDto>> addTicketsIndividually(List<TicketDto> ticketDtos)
+    {
+        List<Optional<TicketDto>> result = super.addTicketsIndividually(ticketDtos);
+        result.forEach(ticket -> ticket.ifPresent(this::created));
+        return result;
+    }
+
+    private void created(TicketDto ticket)
+    {
+        maxId.observe(ticket.ticketId());
+        missing.invalidate(ticket.ticketId());
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.cache;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.dao.UserDao;
+import org.example.dto.UserDto;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachedUserDao extends UserDao
+{
+    private static final Logger log = LoggerFactory.getLogger(CachedUserDao.class);
+    private final NegativeCache<Integer> missingIds;
+    private final NegativeCache<String> missingEmails;
+    private final KnownMaxId maxId;
+    private final ReadThroughCache<String, UserDto> emailCache;
+    private volatile BloomFilter emails;
+    private final AtomicInteger filteredMaxId = new AtomicInteger();
+    private final ConcurrentSkipListSet<Integer> insertedIds = new ConcurrentSkipListSet<>();
+
+    public CachedUserDao(DSLContext dsl, NegativeCache<Integer> missingIds, NegativeCache<String> missingEmails, KnownMaxId maxId,
+                         ReadThroughCache<String, UserDto> emailCache, BloomFilter emails)
+    {
+        super(dsl);
+        this.missingIds = missingIds;
+        this.missingEmails = missingEmails;
+        this.maxId = maxId;
+        this.emailCache = emailCache;
+        this.emails = emails;
+    }
+
+    public BloomFilter emailFilter()
+    {
+        return emails;
+    }
+
+    // Runs at startup and then every negativeCache.maxIdRefreshSeconds. A fresh filter is filled and swapped in, so
+    // emails replaced by modifications are dropped. The filter only answers for users up to the highest id it has read
+    // and those inserted here since, other users are looked up in the database
+    public void rebuildEmailFilter()
+    {
+        try
+        {
+            BloomFilter fresh = emails.emptyCopy();
+            int highest = super.findMaxUserId();
+
+            Page.forEachRow(super::findUsers, user -> fresh.add(user.email()));
+            emails = fresh;
+
+            // Users inserted during the scan may only have reached the old filter; writes from here on add to the new one
+            int[] covered = {highest};
+            Page.forEachRow(page -> super.findUsers(PageRequest.create(Math.max(page.after(), highest), page.limit())), user -> {
+                fresh.add(user.email());
+                covered[0] = Math.max(covered[0], user.userId());
+            });
+
+            filteredMaxId.set(covered[0]);
+            insertedIds.headSet(covered[0], true).clear();
+            advanceFilteredMaxId();
+            maxId.observe(covered[0]);
+        }
+        catch (DataAccessException e)
+        {
+            log.error("Cannot rebuild email filter", e);
+        }
+    }
+
+    @Override
+    public Optional<UserDto> findUserById(int userId)
+    {
+        if (maxId.exceeds(userId))
+        {
+            missingIds.recordHit();
+            return Optional.empty();
+        }
+
+        return missingIds.get(userId, super::findUserById);
+    }
+
+    @Override
+    public Optional<UserDto> findUserByEmail(String email)
+    {
+        BloomFilter filter = emails;
+        boolean mightExist = filter.mightContain(email);
+
+        // Users added since the last rebuild, by this server or another, may be missing from the filter
+        if (!mightExist && maxId.current() <= filteredMaxId.get())
+        {
+            return Optional.empty();
+        }
+
+        Optional<UserDto> user = emailCache.get(email, key -> missingEmails.get(key, super::findUserByEmail));
+
+        if (user.isEmpty() && mightExist)
+        {
+            filter.recordFalsePositive();
+        }
+        else if (user.isPresent() && !mightExist)
+        {
+            filter.add(email);
+        }
+
+        return user;
+    }
+
+    // A registered email is rejected without an insert. The email is added to the filter before the insert, so a
+    // lookup racing with it can only see a false positive, and again after it if a rebuild swapped the filter meanwhile
+    @Override
+    public Optional<UserDto> addUser(UserDto userDto)
+    {
+        if (findUserByEmail(userDto.email()).isPresent())
+        {
+            log.info("User with email {} already exists", userDto.email());
+            return Optional.empty();
+        }
+
+        BloomFilter filter = emails;
+        filter.add(userDto.email());
+
+        Optional<UserDto> result = super.addUser(userDto);
+        result.ifPresent(user -> {
+            addIfSwapped(filter, user.email());
+            insertedIds.add(user.userId());
+            advanceFilteredMaxId();
+            maxId.observe(user.userId());
+            missingIds.invalidate(user.userId());
+            missingEmails.invalidate(user.email());
+            emailCache.invalidate(user.email());
+        });
+        return result;
+    }
+
+    // The previous email cannot be removed from the filter and stays a false positive until the next rebuild
+    @Override
+    public Optional<UserDto> modifyUser(UserDto userDto)
+    {
+        BloomFilter filter = emails;
+        filter.add(userDto.email());
+
+        Optional<UserDto> previous = super.findUserById(userDto.userId());
+        Optional<UserDto> result = super.modifyUser(userDto);
+        result.ifPresent(user -> {
+            addIfSwapped(filter, user.email());
+            previous.ifPresent(old -> emailCache.invalidate(old.email()));
+            missingEmails.invalidate(user.email());
+            emailCache.invalidate(user.email());
+        });
+        return result;
+    }
+
+    // Emails of users inserted here are in the filter already, so the covered range grows over their ids as long as
+    // no id in between is unknown; a gap left by another server or a failed insert waits for the next rebuild
+    private void advanceFilteredMaxId()
+    {
+        int next;
+
+        while (insertedIds.remove(next = filteredMaxId.get() + 1))
+        {
+            filteredMaxId.accumulateAndGet(next, Math::max);
+        }
+    }
+
+    private void addIfSwapped(BloomFilter previous, String email)
+    {
+        BloomFilter current = emails;
+
+        if (current != previous)
+        {
+            current.add(email);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.cache;
+
+import org.example.dao.VenueDao;
+import org.example.dto.VenueDto;
+import org.jooq.DSLContext;
+
+import java.util.Optional;
+
+public class CachedVenueDao extends VenueDao
+{
+    private final ReadThroughCache<Integer, VenueDto> cache;
+    private final EntityVersions versions;
+    private final SingleFlight flights;
+
+    public CachedVenueDao(DSLContext dsl, ReadThroughCache<Integer, VenueDto> cache, EntityVersions versions, SingleFlight flights)
+    {
+        super(dsl);
+        this.cache = cache;
+        this.versions = versions;
+        this.flights = flights;
+    }
+
+    @Override
+    public Optional<VenueDto> findVenueById(int venueId)
+    {
+        return cache.get(venueId, id -> flights.execute(id, () -> super.findVenueById(id)));
+    }
+
+    @Override
+    public Optional<VenueDto> addVenue(VenueDto venueDto)
+    {
+        Optional<VenueDto> result = super.addVenue(venueDto);
+        result.ifPresent(venue -> {
+            flights.forget(venue.venueId());
+            cache.invalidate(venue.venueId());
+            versions.bump(venue.venueId());
+        });
+        return result;
+    }
+
+    @Override
+    public Optional<VenueDto> modifyVenue(VenueDto venueDto)
+    {
+        Optional<VenueDto> result = super.modifyVenue(venueDto);
+        flights.forget(venueDto.venueId());
+        cache.invalidate(venueDto.venueId());
+        versions.bump(venueDto.venueId());
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.cache;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// LRU bounded by stored bytes; an entry is only served while the freshly serialized body still equals the one it was built from
+public class CompressedBodyCache
+{
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CompressedBodyCache(long maxBytes)
+    {
+        this.maxBytes = maxBytes;
+    }
+
+    public byte[] get(String key, byte[] body)
+    {
+        Entry entry;
+
+        lock.lock();
+        try
+        {
+            entry = entries.get(key);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if (entry != null && Arrays.equals(entry.body(), body))
+        {
+            hits.increment();
+            return entry.compressed();
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, byte[] body, byte[] compressed)
+    {
+        long size = body.length + compressed.length;
+
+        if (size > maxBytes)
+        {
+            return;
+        }
+
+        lock.lock();
+        try
+        {
+            Entry previous = entries.put(key, new Entry(body, compressed));
+
+            if (previous != null)
+            {
+                bytes -= previous.size();
+            }
+
+            bytes += size;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+
+            while (bytes > maxBytes && eldest.hasNext())
+            {
+                bytes -= eldest.next().getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+
+        lock.lock();
+        try
+        {
+            snapshot.put("entries", entries.size());
+            snapshot.put("bytes", bytes);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        snapshot.put("maxBytes", maxBytes);
+        snapshot.put("hits", hits.sum());
+        snapshot.put("misses", misses.sum());
+        snapshot.put("evictions", evictions.sum());
+
+        return snapshot;
+    }
+
+    private record Entry(byte[] body, byte[] compressed)
+    {
+        long size()
+        {
+            return body.length + compressed.length;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Write counters behind the ETags of one table. Ids share 1024 striped counters, so a write can also change the tag of
+// an unrelated id in the same stripe; that costs a full response, never a wrong 304. Writers must bump after the write.
+public class EntityVersions
+{
+    private static final int STRIPES = 1024;
+
+    // Counters restart at zero, so tags from an earlier run must not match
+    private static final String EPOCH = Long.toHexString(System.currentTimeMillis());
+
+    private final String name;
+    private final AtomicLongArray entityVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLong tableVersion = new AtomicLong();
+
+    public EntityVersions(String name)
+    {
+        this.name = name;
+    }
+
+    public void bump(int id)
+    {
+        entityVersions.incrementAndGet(id & (STRIPES - 1));
+        tableVersion.incrementAndGet();
+    }
+
+    public String entityTag(int id)
+    {
+        return name + "-" + EPOCH + "-" + id + "-" + entityVersions.get(id & (STRIPES - 1));
+    }
+
+    public String tableTag()
+    {
+        return name + "-" + EPOCH + "-all-" + tableVersion.get();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.cache;
+
+import org.example.config.Config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+// Highest id of a table whose rows are never deleted; ids above it cannot exist. Ids created by this server are
+// observed as they are added, and the maximum is re-read at most once per interval to pick up rows written elsewhere.
+public class KnownMaxId
+{
+    private final IntSupplier maxIdQuery;
+    private final long refreshNanos;
+    private final LongSupplier ticker;
+    private final AtomicInteger maxId = new AtomicInteger();
+    private final AtomicLong nextRefresh;
+    private volatile boolean loaded;
+
+    public KnownMaxId(IntSupplier maxIdQuery, long refreshInterval, TimeUnit unit, LongSupplier ticker)
+    {
+        this.maxIdQuery = maxIdQuery;
+        this.refreshNanos = unit.toNanos(refreshInterval);
+        this.ticker = ticker;
+        this.nextRefresh = new AtomicLong(ticker.getAsLong());
+    }
+
+    public static KnownMaxId fromConfig(IntSupplier maxIdQuery)
+    {
+        return new KnownMaxId(maxIdQuery, Config.getLong("negativeCache.maxIdRefreshSeconds", 30), TimeUnit.SECONDS,
+                System::nanoTime);
+    }
+
+    public boolean exceeds(int id)
+    {
+        if (id <= maxId.get())
+        {
+            return false;
+        }
+
+        refreshIfDue();
+
+        // Until the first read has finished nothing is known to be missing
+        return loaded && id > maxId.get();
+    }
+
+    // Highest id, re-read from the table when the interval has passed
+    public int current()
+    {
+        refreshIfDue();
+        return maxId.get();
+    }
+
+    public void observe(int id)
+    {
+        maxId.accumulateAndGet(id, Math::max);
+    }
+
+    public int get()
+    {
+        return maxId.get();
+    }
+
+    private void refreshIfDue()
+    {
+        long now = ticker.getAsLong();
+        long due = nextRefresh.get();
+
+        if (now - due >= 0 && nextRefresh.compareAndSet(due, now + refreshNanos))
+        {
+            observe(maxIdQuery.getAsInt());
+            loaded = true;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.cache;
+
+import org.example.config.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Remembers keys whose lookup found nothing; the counterpart of ReadThroughCache, which only keeps present values
+public class NegativeCache<K>
+{
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Long> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public NegativeCache(String name, int maxSize, long ttl, TimeUnit unit, LongSupplier ticker)
+    {
+        if (maxSize <= 0 || ttl <= 0)
+        {
+            throw new IllegalArgumentException("Cache size and ttl must be positive");
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.ticker = ticker;
+    }
+
+    public static <K> NegativeCache<K> fromConfig(String name)
+    {
+        return new NegativeCache<>(name,
+                Config.getInt("negativeCache." + name + ".maxSize", 100_000),
+                Config.getLong("negativeCache." + name + ".ttlSeconds", 30),
+                TimeUnit.SECONDS,
+                System::nanoTime);
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    // A miss is not stored when invalidate() ran during the load, since the key may have been created meanwhile
+    public <V> Optional<V> get(K key, Function<K, Optional<V>> loader)
+    {
+        Long expiresAt = entries.get(key);
+        long now = ticker.getAsLong();
+
+        if (expiresAt != null)
+        {
+            if (now - expiresAt < 0)
+            {
+                hits.increment();
+                return Optional.empty();
+            }
+
+            entries.remove(key, expiresAt);
+        }
+
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        Optional<V> loaded = loader.apply(key);
+
+        if (loaded.isEmpty() && generation.get() == loadGeneration)
+        {
+            put(key, now + ttlNanos);
+        }
+
+        return loaded;
+    }
+
+    // Counts as a hit for keys known to be absent without a lookup, such as ids above the highest one
+    public void recordHit()
+    {
+        hits.increment();
+    }
+
+    public void invalidate(K key)
+    {
+        generation.incrementAndGet();
+
+        if (entries.remove(key) != null)
+        {
+            invalidations.increment();
+        }
+    }
+
+    public int size()
+    {
+        return entries.size();
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("size", size());
+        snapshot.put("maxSize", maxSize);
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+        snapshot.put("evictions", evictions.sum());
+        snapshot.put("invalidations", invalidations.sum());
+        return snapshot;
+    }
+
+    private void put(K key, long expiresAt)
+    {
+        if (entries.put(key, expiresAt) == null)
+        {
+            insertionOrder.add(key);
+            queued.incrementAndGet();
+        }
+
+        evictOverflow();
+    }
+
+    // Oldest first; keys already gone from the map only shrink the queue
+    private void evictOverflow()
+    {
+        while (entries.size() > maxSize || queued.get() > 2 * maxSize)
+        {
+            K oldest = insertionOrder.poll();
+
+            if (oldest == null)
+            {
+                return;
+            }
+
+            queued.decrementAndGet();
+
+            if (entries.size() > maxSize && entries.remove(oldest) != null)
+            {
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.cache;
+
+import org.example.config.Config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class ReadThroughCache<K, V>
+{
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ReadThroughCache(String name, int maxSize, long ttl, TimeUnit unit)
+    {
+        this(name, maxSize, ttl, unit, System::nanoTime);
+    }
+
+    public ReadThroughCache(String name, int maxSize, long ttl, TimeUnit unit, LongSupplier ticker)
+    {
+        if (maxSize <= 0 || ttl <= 0)
+        {
+            throw new IllegalArgumentException("Cache size and ttl must be positive");
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.ticker = ticker;
+    }
+
+    public static <K, V> ReadThroughCache<K, V> fromConfig(String name)
+    {
+        return new ReadThroughCache<>(name,
+                Config.getInt("cache." + name + ".maxSize", 10_000),
+                Config.getLong("cache." + name + ".ttlSeconds", 3_600),
+                TimeUnit.SECONDS);
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    // Only present values are cached; a load racing with invalidate() is not stored
+    public Optional<V> get(K key, Function<K, Optional<V>> loader)
+    {
+        Entry<K, V> entry = entries.get(key);
+        long now = ticker.getAsLong();
+
+        if (entry != null)
+        {
+            if (now - entry.expiresAt() < 0)
+            {
+                hits.increment();
+                return Optional.of(entry.value);
+            }
+
+            if (entries.remove(key, entry))
+            {
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        Optional<V> loaded = loader.apply(key);
+
+        if (loaded.isPresent() && generation.get() == loadGeneration)
+        {
+            put(key, loaded.get(), now);
+        }
+
+        return loaded;
+    }
+
+    public void invalidate(K key)
+    {
+        generation.incrementAndGet();
+
+        if (entries.remove(key) != null)
+        {
+            invalidations.increment();
+        }
+    }
+
+    public void invalidateAll()
+    {
+        generation.incrementAndGet();
+        entries.clear();
+        invalidations.increment();
+    }
+
+    public int size()
+    {
+        return entries.size();
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("size", size());
+        snapshot.put("maxSize", maxSize);
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+        snapshot.put("evictions", evictions.sum());
+        snapshot.put("expirations", expirations.sum());
+        snapshot.put("invalidations", invalidations.sum());
+        return snapshot;
+    }
+
+    private void put(K key, V value, long now)
+    {
+        Entry<K, V> entry = new Entry<>(key, value, now + ttlNanos);
+        entries.put(key, entry);
+        insertionOrder.add(entry);
+        queued.incrementAndGet();
+
+        evictOverflow();
+    }
+
+    // Oldest insertions go first; queue nodes of replaced or invalidated entries are dropped
+    private void evictOverflow()
+    {
+        while (entries.size() > maxSize || queued.get() > 2 * maxSize)
+        {
+            Entry<K, V> oldest = insertionOrder.poll();
+
+            if (oldest == null)
+            {
+                return;
+            }
+
+            queued.decrementAndGet();
+
+            if (entries.get(oldest.key()) != oldest)
+            {
+                continue;
+            }
+
+            if (entries.size() > maxSize)
+            {
+                if (entries.remove(oldest.key(), oldest))
+                {
+                    evictions.increment();
+                }
+            }
+            else
+            {
+                insertionOrder.add(oldest);
+                queued.incrementAndGet();
+            }
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, long expiresAt)
+    {
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Concurrent calls with an equal key wait for the first caller's load and share its result, which callers must not
+// modify. A key always loads the same type, so keys of different lookups are distinct records or boxed ids.
+public class SingleFlight
+{
+    private final String name;
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SingleFlight(String name)
+    {
+        this.name = name;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader)
+    {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+
+        if (running != null)
+        {
+            collapsed.increment();
+            return (T) await(running);
+        }
+
+        loads.increment();
+
+        try
+        {
+            T value = loader.get();
+            own.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e)
+        {
+            failures.increment();
+            own.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            inFlight.remove(key, own);
+        }
+    }
+
+    // Called after a write, so that callers arriving later start a fresh load instead of joining one that may have
+    // read the old row; callers already waiting still get the old result, as they would without coalescing. Must run
+    // before the cache entry is invalidated: a reader arriving in between would join the old load under the new cache
+    // generation and store the old row
+    public void forget(Object key)
+    {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll()
+    {
+        inFlight.clear();
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        long loadCount = loads.sum();
+        long collapsedCount = collapsed.sum();
+        long calls = loadCount + collapsedCount;
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("inFlight", inFlight.size());
+        snapshot.put("loads", loadCount);
+        snapshot.put("collapsed", collapsedCount);
+        snapshot.put("collapsedRate", calls == 0 ? 0.0 : (double) collapsedCount / calls);
+        snapshot.put("failures", failures.sum());
+        return snapshot;
+    }
+
+    private static Object await(CompletableFuture<Object> running)
+    {
+        try
+        {
+            return running.join();
+        }
+        catch (CompletionException e)
+        {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+            {
+                throw runtimeException;
+            }
+
+            if (e.getCause() instanceof Error error)
+            {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.cbor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+public class Cbor
+{
+    private static final int INITIAL_CAPACITY = 8192;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private final Map<Class<?>, CborAdapter<?>> adapters = new HashMap<>();
+    // Pooled like the buffers of DtoSerializers, since virtual threads would each allocate a thread-local writer
+    private final ArrayBlockingQueue<CborWriter> writers = new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+
+    // Adapters are registered once at startup, before the instance is shared
+    public <T> Cbor registerAdapter(Class<T> type, CborAdapter<T> adapter)
+    {
+        adapters.put(type, adapter);
+        return this;
+    }
+
+    public boolean supports(Class<?> type)
+    {
+        return adapters.containsKey(type);
+    }
+
+    public <T> byte[] toCbor(Class<T> type, T value)
+    {
+        CborAdapter<T> adapter = adapterFor(type);
+        CborWriter writer = acquire();
+
+        adapter.write(writer, value);
+        return release(writer);
+    }
+
+    public <T> byte[] toCbor(Class<T> type, List<T> values)
+    {
+        CborAdapter<T> adapter = adapterFor(type);
+        CborWriter writer = acquire();
+
+        writer.beginArray(values.size());
+
+        for (T value : values)
+        {
+            if (value == null)
+            {
+                writer.nullValue();
+            }
+            else
+            {
+                adapter.write(writer, value);
+            }
+        }
+
+        return release(writer);
+    }
+
+    public <T> T fromCbor(Class<T> type, byte[] data)
+    {
+        CborReader reader = new CborReader(data);
+        T value = reader.nextNull() ? null : adapterFor(type).read(reader);
+
+        requireFinished(reader);
+        return value;
+    }
+
+    public <T> List<T> listFromCbor(Class<T> type, byte[] data)
+    {
+        CborAdapter<T> adapter = adapterFor(type);
+        CborReader reader = new CborReader(data);
+        List<T> values = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext())
+        {
+            values.add(reader.nextNull() ? null : adapter.read(reader));
+        }
+        reader.endArray();
+
+        requireFinished(reader);
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CborAdapter<T> adapterFor(Class<T> type)
+    {
+        CborAdapter<T> adapter = (CborAdapter<T>) adapters.get(type);
+
+        if (adapter == null)
+        {
+            throw new IllegalArgumentException("No CBOR adapter for " + type.getName());
+        }
+
+        return adapter;
+    }
+
+    private static void requireFinished(CborReader reader)
+    {
+        if (!reader.isFinished())
+        {
+            throw new CborException("Trailing data after value");
+        }
+    }
+
+    private CborWriter acquire()
+    {
+        CborWriter writer = writers.poll();
+
+        if (writer == null)
+        {
+            return new CborWriter(INITIAL_CAPACITY);
+        }
+
+        writer.reset();
+        return writer;
+    }
+
+    private byte[] release(CborWriter writer)
+    {
+        byte[] bytes = writer.toByteArray();
+
+        if (writer.capacity() <= MAX_RETAINED_CAPACITY)
+        {
+            writers.offer(writer);
+        }
+
+        return bytes;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.cbor;
+
+public interface CborAdapter<T>
+{
+    void write(CborWriter writer, T value);
+
+    T read(CborReader reader);
+}
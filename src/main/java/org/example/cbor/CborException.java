@@ -0,0 +1,9 @@
+package org.example.cbor;
+
+public class CborException extends RuntimeException
+{
+    public CborException(String message)
+    {
+        super(message);
+    }
+}
@@ -0,0 +1,297 @@
+package org.example.cbor;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.example.cbor.CborWriter.*;
+
+// Pull reader modelled on Gson's JsonReader; every true from hasNext() must be followed by reading one entry or item
+public class CborReader
+{
+    private static final int INDEFINITE = -1;
+    private static final int BREAK = 0xFF;
+    private static final int MAX_DEPTH = 32;
+
+    private final byte[] data;
+    private int position;
+    private final long[] remaining = new long[MAX_DEPTH];
+    private int depth;
+
+    public CborReader(byte[] data)
+    {
+        this.data = data;
+    }
+
+    public void beginMap()
+    {
+        push(header(MAP, "map"));
+    }
+
+    public void endMap()
+    {
+        pop();
+    }
+
+    public void beginArray()
+    {
+        push(header(ARRAY, "array"));
+    }
+
+    public void endArray()
+    {
+        pop();
+    }
+
+    public boolean hasNext()
+    {
+        long left = remaining[depth - 1];
+
+        if (left == INDEFINITE)
+        {
+            return peek() != BREAK;
+        }
+
+        if (left == 0)
+        {
+            return false;
+        }
+
+        remaining[depth - 1] = left - 1;
+        return true;
+    }
+
+    public String nextName()
+    {
+        return nextString();
+    }
+
+    public String nextString()
+    {
+        long length = header(TEXT, "text string");
+
+        if (length == INDEFINITE)
+        {
+            throw new CborException("Chunked text strings are not supported");
+        }
+
+        int start = take(length);
+        return new String(data, start, (int) length, StandardCharsets.UTF_8);
+    }
+
+    public int nextInt()
+    {
+        int major = peek() >> 5;
+        long argument = header(major == UNSIGNED || major == NEGATIVE ? major : UNSIGNED, "integer");
+
+        if (argument < 0 || argument > Integer.MAX_VALUE)
+        {
+            throw new CborException("Integer out of range at " + position);
+        }
+
+        return major == NEGATIVE ? (int) (-1 - argument) : (int) argument;
+    }
+
+    public boolean nextNull()
+    {
+        if (peek() == NULL)
+        {
+            ++position;
+            return true;
+        }
+
+        return false;
+    }
+
+    public void skipValue()
+    {
+        skipValue(0);
+    }
+
+    public boolean isFinished()
+    {
+        return position == data.length;
+    }
+
+    private void skipValue(int nesting)
+    {
+        if (nesting > MAX_DEPTH)
+        {
+            throw new CborException("Nesting too deep");
+        }
+
+        int major = peek() >> 5;
+        int info = peek() & 0x1F;
+
+        if (major == SIMPLE)
+        {
+            if (info > 27)
+            {
+                throw new CborException("Unexpected break or reserved value at " + position);
+            }
+
+            ++position;
+            take(switch (info)
+            {
+                case 24 -> 1;
+                case 25 -> 2;
+                case 26 -> 4;
+                case 27 -> 8;
+                default -> 0;
+            });
+            return;
+        }
+
+        long argument = header(major, "value");
+
+        switch (major)
+        {
+            case BYTES, TEXT ->
+            {
+                if (argument == INDEFINITE)
+                {
+                    skipChunks(nesting);
+                }
+                else
+                {
+                    take(argument);
+                }
+            }
+            case ARRAY, MAP -> skipItems(major == MAP ? 2 : 1, argument, nesting);
+            case TAG -> skipValue(nesting + 1);
+            default ->
+            {
+            }
+        }
+    }
+
+    private void skipItems(int perEntry, long entries, int nesting)
+    {
+        if (entries == INDEFINITE)
+        {
+            while (peek() != BREAK)
+            {
+                skipValue(nesting + 1);
+            }
+
+            ++position;
+            return;
+        }
+
+        for (long i = 0; i < entries * perEntry; ++i)
+        {
+            skipValue(nesting + 1);
+        }
+    }
+
+    private void skipChunks(int nesting)
+    {
+        while (peek() != BREAK)
+        {
+            skipValue(nesting + 1);
+        }
+
+        ++position;
+    }
+
+    private long header(int major, String what)
+    {
+        int initial = peek();
+
+        if (initial >> 5 != major)
+        {
+            throw new CborException("Expected " + what + " at " + position);
+        }
+
+        ++position;
+        int info = initial & 0x1F;
+
+        if (info < 24)
+        {
+            return info;
+        }
+
+        if (info == 31 && major != UNSIGNED && major != NEGATIVE && major != TAG)
+        {
+            return INDEFINITE;
+        }
+
+        int bytes = switch (info)
+        {
+            case 24 -> 1;
+            case 25 -> 2;
+            case 26 -> 4;
+            case 27 -> 8;
+            default -> throw new CborException("Invalid header at " + (position - 1));
+        };
+
+        int start = take(bytes);
+        long value = 0;
+
+        for (int i = 0; i < bytes; ++i)
+        {
+            value = (value << 8) | (data[start + i] & 0xFF);
+        }
+
+        if (value < 0)
+        {
+            throw new CborException("Length out of range at " + start);
+        }
+
+        return value;
+    }
+
+    private int take(long length)
+    {
+        if (length > data.length - position)
+        {
+            throw new CborException("Truncated input");
+        }
+
+        int start = position;
+        position += (int) length;
+        return start;
+    }
+
+    private int peek()
+    {
+        if (position >= data.length)
+        {
+            throw new CborException("Truncated input");
+        }
+
+        return data[position] & 0xFF;
+    }
+
+    private void push(long entries)
+    {
+        if (depth == MAX_DEPTH)
+        {
+            throw new CborException("Nesting too deep");
+        }
+
+        remaining[depth++] = entries;
+    }
+
+    private void pop()
+    {
+        if (depth == 0)
+        {
+            throw new CborException("No open container");
+        }
+
+        long left = remaining[--depth];
+
+        if (left == INDEFINITE)
+        {
+            if (peek() != BREAK)
+            {
+                throw new CborException("Expected break at " + position);
+            }
+
+            ++position;
+        }
+        else if (left != 0)
+        {
+            throw new CborException("Container not fully read");
+        }
+    }
+}
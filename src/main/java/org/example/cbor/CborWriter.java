@@ -0,0 +1,153 @@
+package org.example.cbor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// Definite-length CBOR (RFC 8949) with the smallest header for every length, so equal values always encode equally
+public class CborWriter
+{
+    static final int UNSIGNED = 0;
+    static final int NEGATIVE = 1;
+    static final int BYTES = 2;
+    static final int TEXT = 3;
+    static final int ARRAY = 4;
+    static final int MAP = 5;
+    static final int TAG = 6;
+    static final int SIMPLE = 7;
+
+    static final int NULL = 0xF6;
+
+    private byte[] buffer;
+    private int size;
+
+    public CborWriter(int capacity)
+    {
+        this.buffer = new byte[capacity];
+    }
+
+    // Map keys are constant, so adapters encode them once
+    public static byte[] key(String name)
+    {
+        CborWriter writer = new CborWriter(name.length() + 9);
+        writer.value(name);
+        return writer.toByteArray();
+    }
+
+    public void reset()
+    {
+        size = 0;
+    }
+
+    public int capacity()
+    {
+        return buffer.length;
+    }
+
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public CborWriter beginMap(int entries)
+    {
+        header(MAP, entries);
+        return this;
+    }
+
+    public CborWriter beginArray(int items)
+    {
+        header(ARRAY, items);
+        return this;
+    }
+
+    public CborWriter raw(byte[] bytes)
+    {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public CborWriter nullValue()
+    {
+        ensure(1);
+        buffer[size++] = (byte) NULL;
+        return this;
+    }
+
+    public CborWriter value(long value)
+    {
+        if (value >= 0)
+        {
+            header(UNSIGNED, value);
+        }
+        else
+        {
+            header(NEGATIVE, -1 - value);
+        }
+
+        return this;
+    }
+
+    public CborWriter value(String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        header(TEXT, bytes.length);
+        return raw(bytes);
+    }
+
+    // Same ISO text as the JSON adapters; tag 0 would require an offset, which LocalDateTime does not have
+    public CborWriter value(LocalDateTime value)
+    {
+        return value(value.toString());
+    }
+
+    private void header(int major, long argument)
+    {
+        ensure(9);
+        int type = major << 5;
+
+        if (argument < 24)
+        {
+            buffer[size++] = (byte) (type | argument);
+        }
+        else if (argument <= 0xFF)
+        {
+            buffer[size++] = (byte) (type | 24);
+            buffer[size++] = (byte) argument;
+        }
+        else if (argument <= 0xFFFF)
+        {
+            buffer[size++] = (byte) (type | 25);
+            writeBigEndian(argument, 2);
+        }
+        else if (argument <= 0xFFFF_FFFFL)
+        {
+            buffer[size++] = (byte) (type | 26);
+            writeBigEndian(argument, 4);
+        }
+        else
+        {
+            buffer[size++] = (byte) (type | 27);
+            writeBigEndian(argument, 8);
+        }
+    }
+
+    private void writeBigEndian(long value, int bytes)
+    {
+        for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8)
+        {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensure(int extra)
+    {
+        if (size + extra > buffer.length)
+        {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
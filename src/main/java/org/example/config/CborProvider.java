@@ -0,0 +1,22 @@
+package org.example.config;
+
+import lombok.Getter;
+import org.example.adapter.*;
+import org.example.cbor.Cbor;
+import org.example.dto.*;
+
+public class CborProvider
+{
+    @Getter
+    private static final Cbor cbor;
+
+    static
+    {
+        cbor = new Cbor()
+                .registerAdapter(UserDto.class, new UserDtoCborAdapter())
+                .registerAdapter(SeatDto.class, new SeatDtoCborAdapter())
+                .registerAdapter(EventDto.class, new EventDtoCborAdapter())
+                .registerAdapter(VenueDto.class, new VenueDtoCborAdapter())
+                .registerAdapter(TicketDto.class, new TicketDtoCborAdapter());
+    }
+}
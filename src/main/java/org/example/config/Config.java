@@ -1,6 +1,8 @@
 package org.example.config;
 
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public class Config
@@ -28,4 +30,46 @@ public class Config
     {
         return properties.getProperty(key);
     }
+
+    public static String get(String key, String defaultValue)
+    {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    public static int getInt(String key, int defaultValue)
+    {
+        String value = get(key);
+
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public static long getLong(String key, long defaultValue)
+    {
+        String value = get(key);
+
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue)
+    {
+        String value = get(key);
+
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    // Values of every key starting with the prefix, keyed by the rest of the key
+    public static Map<String, String> getByPrefix(String prefix)
+    {
+        Map<String, String> values = new HashMap<>();
+
+        for (String key : properties.stringPropertyNames())
+        {
+            if (key.startsWith(prefix))
+            {
+                values.put(key.substring(prefix.length()), properties.getProperty(key));
+            }
+        }
+
+        return values;
+    }
 }
@@ -1,28 +1,104 @@
 package org.example.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.example.metrics.QueryMetrics;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Database
 {
-    private static DSLContext dsl;
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static volatile DSLContext dsl;
+    private static HikariDataSource dataSource;
 
-    public static DSLContext getDslContext() throws SQLException
+    @Getter
+    private static final PoolMetrics poolMetrics = new PoolMetrics();
+
+    @Getter
+    private static final QueryMetrics queryMetrics = new QueryMetrics(Config.getLong("db.slowQueryMs", 500),
+            Config.getLong("metrics.windowSeconds", 60), Config.getInt("metrics.maxStatements", 500));
+
+    public static DSLContext getDslContext()
+    {
+        DSLContext current = dsl;
+
+        if (current != null)
+        {
+            return current;
+        }
+
+        lock.lock();
+        try
+        {
+            if (dsl == null)
+            {
+                dataSource = new HikariDataSource(poolConfig());
+                dsl = DSL.using(new DefaultConfiguration()
+                        .set(dataSource)
+                        .set(SQLDialect.POSTGRES)
+                        .set(new DefaultExecuteListenerProvider(queryMetrics)));
+            }
+
+            return dsl;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    public static void close()
     {
-        if (dsl == null)
+        lock.lock();
+        try
+        {
+            if (dataSource != null)
+            {
+                dataSource.close();
+                dataSource = null;
+                dsl = null;
+            }
+        }
+        finally
         {
-            String url = Config.get("db.url");
-            String user = Config.get("db.user");
-            String password = Config.get("db.password");
-            Connection conn = DriverManager.getConnection(url, user, password);
-            dsl = DSL.using(conn, SQLDialect.POSTGRES);
+            lock.unlock();
         }
+    }
+
+    private static HikariConfig poolConfig()
+    {
+        HikariConfig config = new HikariConfig();
+
+        config.setPoolName("booking-pool");
+        config.setJdbcUrl(Config.get("db.url"));
+        config.setUsername(Config.get("db.user"));
+        config.setPassword(Config.get("db.password"));
+
+        config.setMinimumIdle(Config.getInt("db.pool.minIdle", 2));
+        config.setMaximumPoolSize(Config.getInt("db.pool.maxSize", 10));
+        config.setConnectionTimeout(Config.getLong("db.pool.connectionTimeoutMs", 30_000));
+        config.setValidationTimeout(Config.getLong("db.pool.validationTimeoutMs", 5_000));
+        config.setLeakDetectionThreshold(Config.getLong("db.pool.leakDetectionThresholdMs", 0));
+        config.setMaxLifetime(Config.getLong("db.pool.maxLifetimeMs", 1_800_000));
+        config.setIdleTimeout(Config.getLong("db.pool.idleTimeoutMs", 600_000));
+        config.setKeepaliveTime(Config.getLong("db.pool.keepaliveTimeMs", 0));
+
+        String testQuery = Config.get("db.pool.connectionTestQuery");
+
+        if (testQuery != null)
+        {
+            config.setConnectionTestQuery(testQuery);
+        }
+
+        config.setMetricsTrackerFactory(poolMetrics);
 
-        return dsl;
+        return config;
     }
 }
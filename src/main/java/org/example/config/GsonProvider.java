@@ -22,6 +22,11 @@ public class GsonProvider
                 .registerTypeAdapter(EventDto.class, new EventDtoAdapter())
                 .registerTypeAdapter(VenueDto.class, new VenueDtoAdapter())
                 .registerTypeAdapter(TicketDto.class, new TicketDtoAdapter())
+                .registerTypeAdapter(TicketBatchResultDto.class, new TicketBatchResultDtoAdapter())
+                .registerTypeAdapter(HoldDto.class, new HoldDtoAdapter())
+                .registerTypeAdapter(HoldRequestDto.class, new HoldRequestDtoAdapter())
+                .registerTypeAdapter(AvailabilityDto.class, new AvailabilityDtoAdapter())
+                .registerTypeAdapter(QueueTokenDto.class, new QueueTokenDtoAdapter())
                 .create();
     }
 }
@@ -0,0 +1,130 @@
+package org.example.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PoolMetrics implements MetricsTrackerFactory, IMetricsTracker
+{
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder usageCount = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats)
+    {
+        this.poolStats = poolStats;
+        return this;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos)
+    {
+        acquireCount.increment();
+        acquireNanos.add(elapsedAcquiredNanos);
+        maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis)
+    {
+        usageCount.increment();
+        usageMillis.add(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout()
+    {
+        timeouts.increment();
+    }
+
+    public int getActiveConnections()
+    {
+        return poolStats == null ? 0 : poolStats.getActiveConnections();
+    }
+
+    public int getIdleConnections()
+    {
+        return poolStats == null ? 0 : poolStats.getIdleConnections();
+    }
+
+    public int getTotalConnections()
+    {
+        return poolStats == null ? 0 : poolStats.getTotalConnections();
+    }
+
+    public int getPendingThreads()
+    {
+        return poolStats == null ? 0 : poolStats.getPendingThreads();
+    }
+
+    public int getMaxConnections()
+    {
+        return poolStats == null ? 0 : poolStats.getMaxConnections();
+    }
+
+    public long getAcquireCount()
+    {
+        return acquireCount.sum();
+    }
+
+    public double getAverageWaitMillis()
+    {
+        long count = acquireCount.sum();
+
+        return count == 0 ? 0.0 : (double) acquireNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxWaitMillis()
+    {
+        return (double) maxAcquireNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getAverageUsageMillis()
+    {
+        long count = usageCount.sum();
+
+        return count == 0 ? 0.0 : (double) usageMillis.sum() / count;
+    }
+
+    public long getTimeouts()
+    {
+        return timeouts.sum();
+    }
+
+    public double getUtilization()
+    {
+        int max = getMaxConnections();
+
+        return max == 0 ? 0.0 : (double) getActiveConnections() / max;
+    }
+
+    public Map<String, Object> snapshot()
+    {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+
+        snapshot.put("activeConnections", getActiveConnections());
+        snapshot.put("idleConnections", getIdleConnections());
+        snapshot.put("totalConnections", getTotalConnections());
+        snapshot.put("maxConnections", getMaxConnections());
+        snapshot.put("pendingThreads", getPendingThreads());
+        snapshot.put("utilization", getUtilization());
+        snapshot.put("acquireCount", getAcquireCount());
+        snapshot.put("averageWaitMillis", getAverageWaitMillis());
+        snapshot.put("maxWaitMillis", getMaxWaitMillis());
+        snapshot.put("averageUsageMillis", getAverageUsageMillis());
+        snapshot.put("timeouts", getTimeouts());
+
+        return snapshot;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
+
+import static spark.Spark.threadPool;
+
+public class ServerThreads
+{
+    private static final Logger log = LoggerFactory.getLogger(ServerThreads.class);
+
+    public static void configure()
+    {
+        String mode = Config.get("server.threads", "platform");
+
+        if (mode.equalsIgnoreCase("virtual"))
+        {
+            log.info("Handling requests on virtual threads");
+            EmbeddedServers.add(EmbeddedServers.Identifiers.JETTY,
+                    new EmbeddedJettyFactory().withThreadPool(new VirtualThreadPool()));
+        }
+        else if (mode.equalsIgnoreCase("platform"))
+        {
+            int maxThreads = Config.getInt("server.maxThreads", 200);
+            int minThreads = Config.getInt("server.minThreads", 8);
+            int idleTimeoutMs = Config.getInt("server.idleTimeoutMs", 60_000);
+
+            log.info("Handling requests on up to {} platform threads", maxThreads);
+            threadPool(maxThreads, minThreads, idleTimeoutMs);
+        }
+        else
+        {
+            throw new IllegalStateException("Unknown server.threads mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.config;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool
+{
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile ExecutorService executor;
+
+    @Override
+    protected void doStart()
+    {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jetty-vt-", 0).factory());
+    }
+
+    @Override
+    protected void doStop() throws InterruptedException
+    {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task)
+    {
+        running.incrementAndGet();
+
+        executor.execute(() -> {
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                running.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void join() throws InterruptedException
+    {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getThreads()
+    {
+        return running.get();
+    }
+
+    @Override
+    public int getIdleThreads()
+    {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads()
+    {
+        return false;
+    }
+}
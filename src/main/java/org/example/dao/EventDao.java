@@ -1,9 +1,11 @@
 package org.example.dao;
 
 import org.example.dto.EventDto;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +34,13 @@ public class EventDao
                 .map(this::toDto);
     }
 
+    public Page<EventDto> findEvents(PageRequest pageRequest)
+    {
+        log.info("Fetching page of events after id: {}", pageRequest.after());
+
+        return fetchPage(DSL.noCondition(), pageRequest);
+    }
+
     public Optional<EventDto> findEventById(int eventId)
     {
         log.info("Fetching event with id: {}", eventId);
@@ -54,6 +63,13 @@ public class EventDao
                 .map(this::toDto);
     }
 
+    public Page<EventDto> findEventsByName(String name, PageRequest pageRequest)
+    {
+        log.info("Fetching page of events with name: {} after id: {}", name, pageRequest.after());
+
+        return fetchPage(EVENTS.NAME.eq(name), pageRequest);
+    }
+
     public List<EventDto> findEventsByDateRange(LocalDateTime startTime, LocalDateTime endTime)
     {
         log.info("Fetching events with date between {} and {}", startTime, endTime);
@@ -66,6 +82,13 @@ public class EventDao
                 .map(this::toDto);
     }
 
+    public Page<EventDto> findEventsByDateRange(LocalDateTime startTime, LocalDateTime endTime, PageRequest pageRequest)
+    {
+        log.info("Fetching page of events with date between {} and {} after id: {}", startTime, endTime, pageRequest.after());
+
+        return fetchPage(EVENTS.START_TIME.greaterOrEqual(startTime).and(EVENTS.END_TIME.lessOrEqual(endTime)), pageRequest);
+    }
+
     public Optional<EventDto> addEvent(EventDto eventDto)
     {
         log.info("Adding event");
@@ -108,6 +131,18 @@ public class EventDao
         }
     }
 
+    private Page<EventDto> fetchPage(Condition condition, PageRequest pageRequest)
+    {
+        List<EventDto> rows = dsl.selectFrom(EVENTS)
+                .where(condition.and(EVENTS.EVENT_ID.gt(pageRequest.after())))
+                .orderBy(EVENTS.EVENT_ID)
+                .limit(pageRequest.fetchSize())
+                .fetch()
+                .map(this::toDto);
+
+        return Page.of(rows, pageRequest, EventDto::eventId);
+    }
+
     private EventDto toDto(Record r)
     {
         return EventDto.create(
@@ -0,0 +1,68 @@
+package org.example.dao;
+
+import com.google.auto.value.AutoValue;
+import org.example.config.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+@AutoValue
+public abstract class Page<T>
+{
+    public abstract List<T> items();
+    public abstract Optional<String> nextCursor();
+
+    // rows must be fetched with limit + 1 so that the extra row tells whether another page exists
+    public static <T> Page<T> of(List<T> rows, PageRequest pageRequest, ToIntFunction<T> id)
+    {
+        if (rows.size() <= pageRequest.limit())
+        {
+            return new AutoValue_Page<>(rows, Optional.empty());
+        }
+
+        List<T> items = rows.subList(0, pageRequest.limit());
+        String cursor = PageRequest.encodeCursor(id.applyAsInt(items.getLast()));
+
+        return new AutoValue_Page<>(items, Optional.of(cursor));
+    }
+
+    // Walks every page of a keyset query, so any page method streams its whole result while holding one page in memory
+    // and no connection between pages
+    public static <T> void forEachRow(Function<PageRequest, Page<T>> query, RowSink<T> sink)
+    {
+        PageRequest pageRequest = PageRequest.first(Batches.SIZE);
+
+        try
+        {
+            while (true)
+            {
+                Page<T> page = query.apply(pageRequest);
+
+                for (T row : page.items())
+                {
+                    sink.accept(row);
+                }
+
+                if (page.nextCursor().isEmpty())
+                {
+                    return;
+                }
+
+                pageRequest = PageRequest.create(PageRequest.decodeCursor(page.nextCursor().get()), Batches.SIZE);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Batches
+    {
+        private static final int SIZE = Config.getInt("stream.batchSize", 1000);
+    }
+}
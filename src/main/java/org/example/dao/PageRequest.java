@@ -0,0 +1,77 @@
+package org.example.dao;
+
+import com.google.auto.value.AutoValue;
+import org.example.config.Config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@AutoValue
+public abstract class PageRequest
+{
+    // A request without limit gets every row, as the list endpoints did before paging, unless pagination.defaultLimit
+    // is set
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    public abstract int after();
+    public abstract int limit();
+
+    public static PageRequest create(int after, int limit)
+    {
+        if (limit <= 0)
+        {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+
+        return new AutoValue_PageRequest(after, limit);
+    }
+
+    // Rows to fetch: one more than the limit tells Page.of whether another page exists
+    public int fetchSize()
+    {
+        return limit() == UNLIMITED ? UNLIMITED : limit() + 1;
+    }
+
+    public static PageRequest first(int limit)
+    {
+        return create(0, limit);
+    }
+
+    public static PageRequest parse(String limit, String cursor)
+    {
+        int after = cursor == null ? 0 : decodeCursor(cursor);
+        int size = limit == null ? Limits.DEFAULT_LIMIT : Integer.parseInt(limit);
+
+        if (limit != null && size > Limits.MAX_LIMIT)
+        {
+            throw new IllegalArgumentException("Page limit must not exceed " + Limits.MAX_LIMIT);
+        }
+
+        return create(after, size);
+    }
+
+    public static String encodeCursor(int lastId)
+    {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Integer.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static int decodeCursor(String cursor)
+    {
+        return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+    }
+
+    private static final class Limits
+    {
+        private static final int DEFAULT_LIMIT = defaultLimit();
+        private static final int MAX_LIMIT = Config.getInt("pagination.maxLimit", 1000);
+
+        private static int defaultLimit()
+        {
+            int configured = Config.getInt("pagination.defaultLimit", 0);
+
+            return configured > 0 ? configured : UNLIMITED;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.dao;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface RowSink<T>
+{
+    void accept(T row) throws IOException;
+}
@@ -1,9 +1,11 @@
 package org.example.dao;
 
 import org.example.dto.SeatDto;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +33,13 @@ public class SeatDao
                 .map(this::toDto);
     }
 
+    public Page<SeatDto> findSeats(PageRequest pageRequest)
+    {
+        log.info("Fetching page of seats after id: {}", pageRequest.after());
+
+        return fetchPage(DSL.noCondition(), pageRequest);
+    }
+
     public Optional<SeatDto> findSeatById(int seatId)
     {
         log.info("Fetching seat with id: {}", seatId);
@@ -53,6 +62,13 @@ public class SeatDao
                 .map(this::toDto);
     }
 
+    public Page<SeatDto> findSeatsByVenue(int venueId, PageRequest pageRequest)
+    {
+        log.info("Fetching page of seats with venue id: {} after id: {}", venueId, pageRequest.after());
+
+        return fetchPage(SEATS.VENUE_ID.eq(venueId), pageRequest);
+    }
+
     public List<SeatDto> findSeatsByVenueAndSeatRow(int venueId, String seatRow)
     {
         log.info("Fetching seats with venue id: {} and seat row: {}", venueId, seatRow);
@@ -63,6 +79,13 @@ public class SeatDao
                 .map(this::toDto);
     }
 
+    public Page<SeatDto> findSeatsByVenueAndSeatRow(int venueId, String seatRow, PageRequest pageRequest)
+    {
+        log.info("Fetching page of seats with venue id: {} and seat row: {} after id: {}", venueId, seatRow, pageRequest.after());
+
+        return fetchPage(SEATS.VENUE_ID.eq(venueId).and(SEATS.SEAT_ROW.eq(seatRow)), pageRequest);
+    }
+
     public Optional<SeatDto> addSeat(SeatDto seatDto)
     {
         log.info("Adding seat");
@@ -104,6 +127,18 @@ public class SeatDao
         }
     }
 
+    private Page<SeatDto> fetchPage(Condition condition, PageRequest pageRequest)
+    {
+        List<SeatDto> rows = dsl.selectFrom(SEATS)
+                .where(condition.and(SEATS.SEAT_ID.gt(pageRequest.after())))
+                .orderBy(SEATS.SEAT_ID)
+                .limit(pageRequest.fetchSize())
+                .fetch()
+                .map(this::toDto);
+
+        return Page.of(rows, pageRequest, SeatDto::seatId);
+    }
+
     private SeatDto toDto(Record r)
     {
         return SeatDto.create(
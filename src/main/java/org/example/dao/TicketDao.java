@@ -1,13 +1,18 @@
 package org.example.dao;
 
 import org.example.dto.TicketDto;
+import org.example.jooq.generated.tables.records.TicketsRecord;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep4;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +37,13 @@ public class TicketDao
                 .map(this::toDto);
     }
 
+    public Page<TicketDto> findTickets(PageRequest pageRequest)
+    {
+        log.info("Fetching page of tickets after id: {}", pageRequest.after());
+
+        return fetchPage(DSL.noCondition(), pageRequest);
+    }
+
     public Optional<TicketDto> findTicketById(int ticketId)
     {
         log.info("Fetching ticket with id: {}", ticketId);
@@ -44,6 +56,17 @@ public class TicketDao
                 .map(this::toDto);
     }
 
+    public int findMaxTicketId()
+    {
+        log.info("Fetching highest ticket id");
+
+        Integer maxId = dsl.select(DSL.max(TICKETS.TICKET_ID))
+                .from(TICKETS)
+                .fetchOne(0, Integer.class);
+
+        return maxId == null ? 0 : maxId;
+    }
+
     public List<TicketDto> findTicketsByEventId(int eventId)
     {
         log.info("Fetching tickets with event id: {}", eventId);
@@ -54,6 +77,13 @@ public class TicketDao
                 .map(this::toDto);
     }
 
+    public Page<TicketDto> findTicketsByEventId(int eventId, PageRequest pageRequest)
+    {
+        log.info("Fetching page of tickets with event id: {} after id: {}", eventId, pageRequest.after());
+
+        return fetchPage(TICKETS.EVENT_ID.eq(eventId), pageRequest);
+    }
+
     public List<TicketDto> findTicketsByUserId(int userId)
     {
         log.info("Fetching tickets with user id: {}", userId);
@@ -64,6 +94,13 @@ public class TicketDao
                 .map(this::toDto);
     }
 
+    public Page<TicketDto> findTicketsByUserId(int userId, PageRequest pageRequest)
+    {
+        log.info("Fetching page of tickets with user id: {} after id: {}", userId, pageRequest.after());
+
+        return fetchPage(TICKETS.USER_ID.eq(userId), pageRequest);
+    }
+
     public List<TicketDto> findTicketsByBookedDate(LocalDateTime startTime, LocalDateTime endTime)
     {
         log.info("Fetching tickets with booked date between {} and {}", startTime, endTime);
@@ -74,6 +111,13 @@ public class TicketDao
                 .map(this::toDto);
     }
 
+    public Page<TicketDto> findTicketsByBookedDate(LocalDateTime startTime, LocalDateTime endTime, PageRequest pageRequest)
+    {
+        log.info("Fetching page of tickets with booked date between {} and {} after id: {}", startTime, endTime, pageRequest.after());
+
+        return fetchPage(TICKETS.BOOKED_AT.between(startTime, endTime), pageRequest);
+    }
+
     public Optional<TicketDto> addTicket(TicketDto ticketDto)
     {
         log.info("Adding ticket");
@@ -93,6 +137,67 @@ public class TicketDao
         }
     }
 
+    public Optional<List<TicketDto>> addTickets(List<TicketDto> ticketDtos)
+    {
+        log.info("Adding {} tickets", ticketDtos.size());
+
+        if (ticketDtos.isEmpty())
+        {
+            return Optional.of(List.of());
+        }
+
+        InsertValuesStep4<TicketsRecord, Integer, Integer, Integer, LocalDateTime> insert =
+                dsl.insertInto(TICKETS, TICKETS.EVENT_ID, TICKETS.SEAT_ID, TICKETS.USER_ID, TICKETS.BOOKED_AT);
+
+        for (TicketDto ticketDto : ticketDtos)
+        {
+            insert = insert.values(ticketDto.eventId(), ticketDto.seatId(), ticketDto.userId(), ticketDto.bookedAt());
+        }
+
+        try
+        {
+            List<TicketDto> added = insert.returning()
+                    .fetch()
+                    .map(this::toDto);
+
+            return added.size() == ticketDtos.size() ? Optional.of(added) : Optional.empty();
+        }
+        catch (DataAccessException e)
+        {
+            log.error("Cannot add tickets", e);
+            return Optional.empty();
+        }
+    }
+
+    // Every row gets its own savepoint inside one transaction, so a rejected row only rolls back itself; results are in
+    // input order and empty for the rows that were not inserted
+    public List<Optional<TicketDto>> addTicketsIndividually(List<TicketDto> ticketDtos)
+    {
+        log.info("Adding {} tickets individually", ticketDtos.size());
+
+        try
+        {
+            return dsl.transactionResult(configuration -> {
+                DSLContext transaction = DSL.using(configuration);
+                List<Optional<TicketDto>> added = new ArrayList<>(ticketDtos.size());
+
+                for (TicketDto ticketDto : ticketDtos)
+                {
+                    added.add(addTicketWithSavepoint(transaction, ticketDto));
+                }
+
+                return added;
+            });
+        }
+        catch (DataAccessException e)
+        {
+            log.error("Cannot add tickets", e);
+            return ticketDtos.stream()
+                    .map(ticketDto -> Optional.<TicketDto>empty())
+                    .toList();
+        }
+    }
+
     public Optional<TicketDto> modifyTicket(TicketDto ticketDto)
     {
         log.info("Modifying ticket with id: {}", ticketDto.ticketId());
@@ -116,6 +221,36 @@ public class TicketDao
         }
     }
 
+    private Optional<TicketDto> addTicketWithSavepoint(DSLContext transaction, TicketDto ticketDto)
+    {
+        try
+        {
+            return Optional.ofNullable(transaction.transactionResult(savepoint -> DSL.using(savepoint)
+                    .insertInto(TICKETS, TICKETS.EVENT_ID, TICKETS.SEAT_ID, TICKETS.USER_ID, TICKETS.BOOKED_AT)
+                    .values(ticketDto.eventId(), ticketDto.seatId(), ticketDto.userId(), ticketDto.bookedAt())
+                    .returning()
+                    .fetchOne()
+            )).map(this::toDto);
+        }
+        catch (DataAccessException e)
+        {
+            log.error("Cannot add ticket for seat {} of event {}", ticketDto.seatId(), ticketDto.eventId(), e);
+            return Optional.empty();
+        }
+    }
+
+    private Page<TicketDto> fetchPage(Condition condition, PageRequest pageRequest)
+    {
+        List<TicketDto> rows = dsl.selectFrom(TICKETS)
+                .where(condition.and(TICKETS.TICKET_ID.gt(pageRequest.after())))
+                .orderBy(TICKETS.TICKET_ID)
+                .limit(pageRequest.fetchSize())
+                .fetch()
+                .map(this::toDto);
+
+        return Page.of(rows, pageRequest, TicketDto::ticketId);
+    }
+
     private TicketDto toDto(Record r)
     {
         return TicketDto.create(
@@ -1,9 +1,11 @@
 package org.example.dao;
 
 import org.example.dto.UserDto;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +34,13 @@ public class UserDao
                 .map(this::toDto);
     }
 
+    public Page<UserDto> findUsers(PageRequest pageRequest)
+    {
+        log.info("Fetching page of users after id: {}", pageRequest.after());
+
+        return fetchPage(DSL.noCondition(), pageRequest);
+    }
+
     public Optional<UserDto> findUserById(int userId)
     {
         log.info("Fetching user with id: {}", userId);
@@ -44,6 +53,17 @@ public class UserDao
                 .map(this::toDto);
     }
 
+    public int findMaxUserId()
+    {
+        log.info("Fetching highest user id");
+
+        Integer maxId = dsl.select(DSL.max(USERS.USER_ID))
+                .from(USERS)
+                .fetchOne(0, Integer.class);
+
+        return maxId == null ? 0 : maxId;
+    }
+
     public List<UserDto> findUsersByName(String name)
     {
         log.info("Fetching users with name: {}", name);
@@ -54,6 +74,13 @@ public class UserDao
                 .map(this::toDto);
     }
 
+    public Page<UserDto> findUsersByName(String name, PageRequest pageRequest)
+    {
+        log.info("Fetching page of users with name: {} after id: {}", name, pageRequest.after());
+
+        return fetchPage(USERS.NAME.eq(name), pageRequest);
+    }
+
     public Optional<UserDto> findUserByEmail(String email)
     {
         log.info("Fetching user with email: {}", email);
@@ -76,6 +103,13 @@ public class UserDao
                 .map(this::toDto);
     }
 
+    public Page<UserDto> findUserByCreationDatetime(LocalDateTime start, LocalDateTime end, PageRequest pageRequest)
+    {
+        log.info("Fetching page of users with creation date between {} and {} after id: {}", start, end, pageRequest.after());
+
+        return fetchPage(USERS.CREATED_AT.between(start, end), pageRequest);
+    }
+
     public Optional<UserDto> addUser(UserDto userDto)
     {
         log.info("Adding user");
@@ -117,6 +151,18 @@ public class UserDao
         }
     }
 
+    private Page<UserDto> fetchPage(Condition condition, PageRequest pageRequest)
+    {
+        List<UserDto> rows = dsl.selectFrom(USERS)
+                .where(condition.and(USERS.USER_ID.gt(pageRequest.after())))
+                .orderBy(USERS.USER_ID)
+                .limit(pageRequest.fetchSize())
+                .fetch()
+                .map(this::toDto);
+
+        return Page.of(rows, pageRequest, UserDto::userId);
+    }
+
     private UserDto toDto(Record r)
     {
         return UserDto.create(
@@ -1,9 +1,11 @@
 package org.example.dao;
 
 import org.example.dto.VenueDto;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +33,13 @@ public class VenueDao
                 .map(this::toDto);
     }
 
+    public Page<VenueDto> findVenues(PageRequest pageRequest)
+    {
+        log.info("Fetching page of venues after id: {}", pageRequest.after());
+
+        return fetchPage(DSL.noCondition(), pageRequest);
+    }
+
     public Optional<VenueDto> findVenueById(int venueId)
     {
         log.info("Fetching venue with id: {}", venueId);
@@ -53,6 +62,13 @@ public class VenueDao
                 .map(this::toDto);
     }
 
+    public Page<VenueDto> findVenueByName(String name, PageRequest pageRequest)
+    {
+        log.info("Fetching page of venues with name: {} after id: {}", name, pageRequest.after());
+
+        return fetchPage(VENUES.NAME.eq(name), pageRequest);
+    }
+
     public List<VenueDto> findVenueByAddress(String address)
     {
         log.info("Fetching venues with address: {}", address);
@@ -63,6 +79,13 @@ public class VenueDao
                 .map(this::toDto);
     }
 
+    public Page<VenueDto> findVenueByAddress(String address, PageRequest pageRequest)
+    {
+        log.info("Fetching page of venues with address: {} after id: {}", address, pageRequest.after());
+
+        return fetchPage(VENUES.ADDRESS.eq(address), pageRequest);
+    }
+
     public List<VenueDto> findVenueByNameAndAddress(String name, String address)
     {
         log.info("Fetching venues with name: {} and address: {}", name, address);
@@ -73,6 +96,13 @@ public class VenueDao
                 .map(this::toDto);
     }
 
+    public Page<VenueDto> findVenueByNameAndAddress(String name, String address, PageRequest pageRequest)
+    {
+        log.info("Fetching page of venues with name: {} and address: {} after id: {}", name, address, pageRequest.after());
+
+        return fetchPage(VENUES.NAME.eq(name).and(VENUES.ADDRESS.eq(address)), pageRequest);
+    }
+
     public Optional<VenueDto> addVenue(VenueDto venueDto)
     {
         log.info("Adding venue");
@@ -113,6 +143,18 @@ public class VenueDao
         }
     }
 
+    private Page<VenueDto> fetchPage(Condition condition, PageRequest pageRequest)
+    {
+        List<VenueDto> rows = dsl.selectFrom(VENUES)
+                .where(condition.and(VENUES.VENUE_ID.gt(pageRequest.after())))
+                .orderBy(VENUES.VENUE_ID)
+                .limit(pageRequest.fetchSize())
+                .fetch()
+                .map(this::toDto);
+
+        return Page.of(rows, pageRequest, VenueDto::venueId);
+    }
+
     private VenueDto toDto(Record r)
     {
         return VenueDto.create(
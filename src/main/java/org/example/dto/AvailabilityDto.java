@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.List;
+
+@AutoValue
+public abstract class AvailabilityDto
+{
+    public abstract int eventId();
+    public abstract int seatCount();
+    public abstract int availableCount();
+    public abstract List<SeatRowAvailabilityDto> rows();
+
+    public static AvailabilityDto create(int eventId, int seatCount, int availableCount, List<SeatRowAvailabilityDto> rows)
+    {
+        return new AutoValue_AvailabilityDto(eventId, seatCount, availableCount, List.copyOf(rows));
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AutoValue
+public abstract class HoldDto
+{
+    public abstract int holdId();
+    public abstract int eventId();
+    public abstract int userId();
+    public abstract List<Integer> seatIds();
+    public abstract LocalDateTime expiresAt();
+
+    public static HoldDto create(int holdId, int eventId, int userId, List<Integer> seatIds, LocalDateTime expiresAt)
+    {
+        return new AutoValue_HoldDto(holdId, eventId, userId, List.copyOf(seatIds), expiresAt);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.List;
+
+@AutoValue
+public abstract class HoldRequestDto
+{
+    public abstract int userId();
+    public abstract List<Integer> seatIds();
+
+    public static HoldRequestDto create(int userId, List<Integer> seatIds)
+    {
+        return new AutoValue_HoldRequestDto(userId, List.copyOf(seatIds));
+    }
+}
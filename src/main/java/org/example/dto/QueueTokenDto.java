@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+@AutoValue
+public abstract class QueueTokenDto
+{
+    public abstract String token();
+    public abstract int eventId();
+    public abstract long position();
+    public abstract boolean admitted();
+    public abstract long estimatedWaitSeconds();
+
+    public static QueueTokenDto create(String token, int eventId, long position, boolean admitted, long estimatedWaitSeconds)
+    {
+        return new AutoValue_QueueTokenDto(token, eventId, position, admitted, estimatedWaitSeconds);
+    }
+}
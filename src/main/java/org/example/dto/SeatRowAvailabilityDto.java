@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+@AutoValue
+public abstract class SeatRowAvailabilityDto
+{
+    public abstract String seatRow();
+
+    // Runs of free seats as consecutive [firstSeatNumber, lastSeatNumber] pairs
+    @SuppressWarnings("mutable")
+    public abstract int[] freeRuns();
+
+    public static SeatRowAvailabilityDto create(String seatRow, int[] freeRuns)
+    {
+        return new AutoValue_SeatRowAvailabilityDto(seatRow, freeRuns);
+    }
+}
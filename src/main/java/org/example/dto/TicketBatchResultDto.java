@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.Optional;
+
+@AutoValue
+public abstract class TicketBatchResultDto
+{
+    public abstract int index();
+    public abstract String status();
+    public abstract Optional<TicketDto> ticket();
+
+    public static TicketBatchResultDto create(int index, String status, Optional<TicketDto> ticket)
+    {
+        return new AutoValue_TicketBatchResultDto(index, status, ticket);
+    }
+}
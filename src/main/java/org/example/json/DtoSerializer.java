@@ -0,0 +1,6 @@
+package org.example.json;
+
+public interface DtoSerializer<T>
+{
+    void write(JsonByteWriter writer, T dto);
+}
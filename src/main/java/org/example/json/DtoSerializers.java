@@ -0,0 +1,110 @@
+package org.example.json;
+
+import org.example.dto.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+public class DtoSerializers
+{
+    private static final int INITIAL_CAPACITY = 8192;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final Map<Class<?>, DtoSerializer<?>> serializers = Map.of(
+            TicketDto.class, new TicketDtoSerializer(),
+            SeatDto.class, new SeatDtoSerializer(),
+            EventDto.class, new EventDtoSerializer(),
+            UserDto.class, new UserDtoSerializer(),
+            VenueDto.class, new VenueDtoSerializer());
+
+    // Shared by all request threads rather than held per thread: with server.threads=virtual every request runs on a
+    // new thread, so a thread-local buffer would be allocated per request. A buffer that grew past the limit for a
+    // huge list, or that finds the pool full, is not kept
+    private static final ArrayBlockingQueue<JsonByteWriter> writers =
+            new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+
+    public static boolean supports(Class<?> type)
+    {
+        return serializers.containsKey(type);
+    }
+
+    public static <T> byte[] toJson(Class<T> type, T dto)
+    {
+        DtoSerializer<T> serializer = serializerFor(type);
+        JsonByteWriter writer = acquire();
+
+        serializer.write(writer, dto);
+        return release(writer);
+    }
+
+    public static <T> byte[] toJson(Class<T> type, List<T> dtos)
+    {
+        DtoSerializer<T> serializer = serializerFor(type);
+        JsonByteWriter writer = acquire();
+
+        writer.raw('[');
+
+        boolean first = true;
+
+        for (T dto : dtos)
+        {
+            if (!first)
+            {
+                writer.raw(',');
+            }
+
+            first = false;
+
+            if (dto == null)
+            {
+                writer.nullValue();
+            }
+            else
+            {
+                serializer.write(writer, dto);
+            }
+        }
+
+        writer.raw(']');
+        return release(writer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> DtoSerializer<T> serializerFor(Class<T> type)
+    {
+        DtoSerializer<T> serializer = (DtoSerializer<T>) serializers.get(type);
+
+        if (serializer == null)
+        {
+            throw new IllegalArgumentException("No direct serializer for " + type.getName());
+        }
+
+        return serializer;
+    }
+
+    private static JsonByteWriter acquire()
+    {
+        JsonByteWriter writer = writers.poll();
+
+        if (writer == null)
+        {
+            return new JsonByteWriter(INITIAL_CAPACITY);
+        }
+
+        writer.reset();
+        return writer;
+    }
+
+    private static byte[] release(JsonByteWriter writer)
+    {
+        byte[] bytes = writer.toByteArray();
+
+        if (writer.capacity() <= MAX_RETAINED_CAPACITY)
+        {
+            writers.offer(writer);
+        }
+
+        return bytes;
+    }
+}
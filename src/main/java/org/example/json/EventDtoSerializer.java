@@ -0,0 +1,25 @@
+package org.example.json;
+
+import org.example.dto.EventDto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class EventDtoSerializer implements DtoSerializer<EventDto>
+{
+    private static final byte[] EVENT_ID = "{\"eventId\":".getBytes(UTF_8);
+    private static final byte[] VENUE_ID = ",\"venueId\":".getBytes(UTF_8);
+    private static final byte[] NAME = ",\"name\":".getBytes(UTF_8);
+    private static final byte[] START_TIME = ",\"startTime\":".getBytes(UTF_8);
+    private static final byte[] END_TIME = ",\"endTime\":".getBytes(UTF_8);
+
+    @Override
+    public void write(JsonByteWriter writer, EventDto eventDto)
+    {
+        writer.raw(EVENT_ID).value(eventDto.eventId());
+        writer.raw(VENUE_ID).value(eventDto.venueId());
+        writer.raw(NAME).value(eventDto.name());
+        writer.raw(START_TIME).value(eventDto.startTime());
+        writer.raw(END_TIME).value(eventDto.endTime());
+        writer.raw('}');
+    }
+}
@@ -0,0 +1,279 @@
+package org.example.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// Produces the same bytes as Gson's default JsonWriter (HTML-safe escaping, no serializeNulls) for the values it supports
+public class JsonByteWriter
+{
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] MIN_INT = String.valueOf(Integer.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final boolean[] ESCAPED = new boolean[128];
+
+    static
+    {
+        for (int c = 0; c < 0x20; ++c)
+        {
+            ESCAPED[c] = true;
+        }
+
+        for (char c : new char[] {'"', '\\', '<', '>', '&', '=', '\''})
+        {
+            ESCAPED[c] = true;
+        }
+    }
+
+    private byte[] buffer;
+    private int size;
+
+    public JsonByteWriter(int capacity)
+    {
+        this.buffer = new byte[capacity];
+    }
+
+    public void reset()
+    {
+        size = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int capacity()
+    {
+        return buffer.length;
+    }
+
+    public byte[] toByteArray()
+    {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public JsonByteWriter raw(byte[] bytes)
+    {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public JsonByteWriter raw(char c)
+    {
+        ensure(1);
+        buffer[size++] = (byte) c;
+        return this;
+    }
+
+    public JsonByteWriter nullValue()
+    {
+        return raw(NULL);
+    }
+
+    public JsonByteWriter value(int value)
+    {
+        if (value == Integer.MIN_VALUE)
+        {
+            return raw(MIN_INT);
+        }
+
+        ensure(11);
+
+        if (value < 0)
+        {
+            buffer[size++] = '-';
+            value = -value;
+        }
+
+        int digits = digits(value);
+        int position = size + digits;
+
+        do
+        {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        while (value != 0);
+
+        size += digits;
+        return this;
+    }
+
+    public JsonByteWriter value(String value)
+    {
+        ensure(value.length() * 6 + 2);
+        buffer[size++] = '"';
+
+        for (int i = 0; i < value.length(); ++i)
+        {
+            char c = value.charAt(i);
+
+            if (c < 0x80)
+            {
+                if (ESCAPED[c])
+                {
+                    escape(c);
+                }
+                else
+                {
+                    buffer[size++] = (byte) c;
+                }
+            }
+            else if (c == '\u2028' || c == '\u2029')
+            {
+                unicodeEscape(c);
+            }
+            else if (c < 0x800)
+            {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1)))
+            {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            else if (Character.isSurrogate(c))
+            {
+                // Lone surrogates become '?', as String.getBytes(UTF_8) does
+                buffer[size++] = '?';
+            }
+            else
+            {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer[size++] = '"';
+        return this;
+    }
+
+    // Same text as LocalDateTime.toString(): seconds and fraction only when non-zero, fraction in groups of three digits
+    public JsonByteWriter value(LocalDateTime value)
+    {
+        int year = value.getYear();
+
+        if (year < 1000 || year > 9999)
+        {
+            return value(value.toString());
+        }
+
+        ensure(31);
+        buffer[size++] = '"';
+        fixed(year, 4);
+        buffer[size++] = '-';
+        fixed(value.getMonthValue(), 2);
+        buffer[size++] = '-';
+        fixed(value.getDayOfMonth(), 2);
+        buffer[size++] = 'T';
+        fixed(value.getHour(), 2);
+        buffer[size++] = ':';
+        fixed(value.getMinute(), 2);
+
+        int second = value.getSecond();
+        int nano = value.getNano();
+
+        if (second > 0 || nano > 0)
+        {
+            buffer[size++] = ':';
+            fixed(second, 2);
+
+            if (nano > 0)
+            {
+                buffer[size++] = '.';
+
+                if (nano % 1_000_000 == 0)
+                {
+                    fixed(nano / 1_000_000, 3);
+                }
+                else if (nano % 1_000 == 0)
+                {
+                    fixed(nano / 1_000, 6);
+                }
+                else
+                {
+                    fixed(nano, 9);
+                }
+            }
+        }
+
+        buffer[size++] = '"';
+        return this;
+    }
+
+    private void escape(char c)
+    {
+        byte replacement = switch (c)
+        {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '\t' -> 't';
+            case '\b' -> 'b';
+            case '\n' -> 'n';
+            case '\r' -> 'r';
+            case '\f' -> 'f';
+            default -> 0;
+        };
+
+        if (replacement == 0)
+        {
+            unicodeEscape(c);
+        }
+        else
+        {
+            buffer[size++] = '\\';
+            buffer[size++] = replacement;
+        }
+    }
+
+    private void unicodeEscape(char c)
+    {
+        buffer[size++] = '\\';
+        buffer[size++] = 'u';
+        buffer[size++] = HEX[(c >> 12) & 0xF];
+        buffer[size++] = HEX[(c >> 8) & 0xF];
+        buffer[size++] = HEX[(c >> 4) & 0xF];
+        buffer[size++] = HEX[c & 0xF];
+    }
+
+    private void fixed(int value, int digits)
+    {
+        for (int position = size + digits - 1; position >= size; --position)
+        {
+            buffer[position] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+
+        size += digits;
+    }
+
+    private static int digits(int value)
+    {
+        int digits = 1;
+
+        while (value >= 10)
+        {
+            value /= 10;
+            ++digits;
+        }
+
+        return digits;
+    }
+
+    private void ensure(int extra)
+    {
+        if (size + extra > buffer.length)
+        {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
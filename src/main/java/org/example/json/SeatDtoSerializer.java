@@ -0,0 +1,23 @@
+package org.example.json;
+
+import org.example.dto.SeatDto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class SeatDtoSerializer implements DtoSerializer<SeatDto>
+{
+    private static final byte[] SEAT_ID = "{\"seatId\":".getBytes(UTF_8);
+    private static final byte[] VENUE_ID = ",\"venueId\":".getBytes(UTF_8);
+    private static final byte[] SEAT_ROW = ",\"seatRow\":".getBytes(UTF_8);
+    private static final byte[] SEAT_NUMBER = ",\"seatNumber\":".getBytes(UTF_8);
+
+    @Override
+    public void write(JsonByteWriter writer, SeatDto seatDto)
+    {
+        writer.raw(SEAT_ID).value(seatDto.seatId());
+        writer.raw(VENUE_ID).value(seatDto.venueId());
+        writer.raw(SEAT_ROW).value(seatDto.seatRow());
+        writer.raw(SEAT_NUMBER).value(seatDto.seatNumber());
+        writer.raw('}');
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.json;
+
+import org.example.dto.TicketDto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class TicketDtoSerializer implements DtoSerializer<TicketDto>
+{
+    private static final byte[] TICKET_ID = "{\"ticketId\":".getBytes(UTF_8);
+    private static final byte[] EVENT_ID = ",\"eventId\":".getBytes(UTF_8);
+    private static final byte[] SEAT_ID = ",\"seatId\":".getBytes(UTF_8);
+    private static final byte[] USER_ID = ",\"userId\":".getBytes(UTF_8);
+    private static final byte[] BOOKED_AT = ",\"bookedAt\":".getBytes(UTF_8);
+
+    @Override
+    public void write(JsonByteWriter writer, TicketDto ticketDto)
+    {
+        writer.raw(TICKET_ID).value(ticketDto.ticketId());
+        writer.raw(EVENT_ID).value(ticketDto.eventId());
+        writer.raw(SEAT_ID).value(ticketDto.seatId());
+        writer.raw(USER_ID).value(ticketDto.userId());
+        writer.raw(BOOKED_AT).value(ticketDto.bookedAt());
+        writer.raw('}');
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.json;
+
+import org.example.dto.UserDto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class UserDtoSerializer implements DtoSerializer<UserDto>
+{
+    private static final byte[] USER_ID = "{\"userId\":".getBytes(UTF_8);
+    private static final byte[] NAME = ",\"name\":".getBytes(UTF_8);
+    private static final byte[] EMAIL = ",\"email\":".getBytes(UTF_8);
+    private static final byte[] CREATED_AT = ",\"createdAt\":".getBytes(UTF_8);
+
+    @Override
+    public void write(JsonByteWriter writer, UserDto userDto)
+    {
+        writer.raw(USER_ID).value(userDto.userId());
+        writer.raw(NAME).value(userDto.name());
+        writer.raw(EMAIL).value(userDto.email());
+        writer.raw(CREATED_AT).value(userDto.createdAt());
+        writer.raw('}');
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.json;
+
+import org.example.dto.VenueDto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class VenueDtoSerializer implements DtoSerializer<VenueDto>
+{
+    private static final byte[] VENUE_ID = "{\"venueId\":".getBytes(UTF_8);
+    private static final byte[] NAME = ",\"name\":".getBytes(UTF_8);
+    private static final byte[] ADDRESS = ",\"address\":".getBytes(UTF_8);
+
+    @Override
+    public void write(JsonByteWriter writer, VenueDto venueDto)
+    {
+        writer.raw(VENUE_ID).value(venueDto.venueId());
+        writer.raw(NAME).value(venueDto.name());
+        writer.raw(ADDRESS).value(venueDto.address());
+
+        writer.raw('}');
+    }
+}
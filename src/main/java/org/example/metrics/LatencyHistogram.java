@@ -0,0 +1,145 @@
+package org.example.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear buckets over microseconds: exact below 64, then 32 sub-buckets per power of two (~3% error)
+public class LatencyHistogram
+{
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (MAX_EXPONENT - 6 + 1) * SUB_BUCKETS;
+
+    private final long windowNanos;
+    private final AtomicLongArray[] windows = {new AtomicLongArray(BUCKET_COUNT), new AtomicLongArray(BUCKET_COUNT)};
+    private final AtomicLong windowStart;
+    private volatile int current;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+
+    public LatencyHistogram(long window, TimeUnit unit)
+    {
+        this.windowNanos = unit.toNanos(window);
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    public void record(long nanos, long now)
+    {
+        long micros = Math.max(0, nanos / 1_000);
+
+        rotate(now);
+        windows[current].incrementAndGet(bucketOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+    }
+
+    public long count()
+    {
+        return count.sum();
+    }
+
+    public double sumSeconds()
+    {
+        return sumMicros.sum() / 1_000_000.0;
+    }
+
+    // Covers the current and the previous window, i.e. the last one to two window lengths
+    public double quantileSeconds(double quantile, long now)
+    {
+        rotate(now);
+
+        AtomicLongArray first = windows[0];
+        AtomicLongArray second = windows[1];
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; ++i)
+        {
+            total += first.get(i) + second.get(i);
+        }
+
+        if (total == 0)
+        {
+            return 0.0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; ++i)
+        {
+            seen += first.get(i) + second.get(i);
+
+            if (seen >= target)
+            {
+                return upperBoundOf(i) / 1_000_000.0;
+            }
+        }
+
+        return upperBoundOf(BUCKET_COUNT - 1) / 1_000_000.0;
+    }
+
+    static int bucketOf(long micros)
+    {
+        if (micros < LINEAR_BUCKETS)
+        {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+
+        if (exponent > MAX_EXPONENT)
+        {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - 6) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket)
+    {
+        if (bucket < LINEAR_BUCKETS)
+        {
+            return bucket;
+        }
+
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 6;
+        long mantissa = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    // The window that is about to become current is cleared, and after an idle gap of two windows or more the
+    // previous one is stale too; samples racing with the switch may be lost
+    private void rotate(long now)
+    {
+        long start = windowStart.get();
+
+        if (now - start < windowNanos || !windowStart.compareAndSet(start, now))
+        {
+            return;
+        }
+
+        int next = current ^ 1;
+        clear(windows[next]);
+
+        if (now - start >= 2 * windowNanos)
+        {
+            clear(windows[current]);
+        }
+
+        current = next;
+    }
+
+    private static void clear(AtomicLongArray window)
+    {
+        for (int i = 0; i < BUCKET_COUNT; ++i)
+        {
+            window.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.metrics;
+
+public class PrometheusWriter
+{
+    private final StringBuilder out = new StringBuilder(4096);
+
+    public PrometheusWriter header(String name, String type, String help)
+    {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public PrometheusWriter sample(String name, double value, String... labels)
+    {
+        out.append(name);
+
+        if (labels.length > 0)
+        {
+            out.append('{');
+
+            for (int i = 0; i + 1 < labels.length; i += 2)
+            {
+                if (i > 0)
+                {
+                    out.append(',');
+                }
+
+                out.append(labels[i]).append("=\"");
+                escape(labels[i + 1]);
+                out.append('"');
+            }
+
+            out.append('}');
+        }
+
+        out.append(' ');
+
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15)
+        {
+            out.append((long) value);
+        }
+        else
+        {
+            out.append(value);
+        }
+
+        out.append('\n');
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return out.toString();
+    }
+
+    private void escape(String value)
+    {
+        for (int i = 0; i < value.length(); ++i)
+        {
+            char c = value.charAt(i);
+
+            switch (c)
+            {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.metrics;
+
+import org.example.util.LogHelper;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Times statements from executeStart to executeEnd, so the time spent fetching rows is not counted
+public class QueryMetrics implements ExecuteListener
+{
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+
+    private static final String OTHER_STATEMENT = "other";
+    private static final String START_KEY = "metrics.queryStart";
+    private static final String ELAPSED_KEY = "metrics.queryElapsed";
+    private static final String ROWS_KEY = "metrics.queryRows";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("(\\(\\?[^()]*\\))(?:\\s*,\\s*\\(\\?[^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowQueryNanos;
+    private final long windowSeconds;
+    private final int maxStatements;
+    private final ConcurrentHashMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final LongAdder slowQueries = new LongAdder();
+
+    public QueryMetrics(long slowQueryMillis, long windowSeconds, int maxStatements)
+    {
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+        this.windowSeconds = windowSeconds;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx)
+    {
+        ctx.data(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx)
+    {
+        Object start = ctx.data(START_KEY);
+
+        if (start != null)
+        {
+            ctx.data(ELAPSED_KEY, System.nanoTime() - (Long) start);
+        }
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx)
+    {
+        Object rows = ctx.data(ROWS_KEY);
+        ctx.data(ROWS_KEY, rows == null ? 1L : (Long) rows + 1);
+    }
+
+    @Override
+    public void end(ExecuteContext ctx)
+    {
+        Object elapsed = ctx.data(ELAPSED_KEY);
+        Object start = ctx.data(START_KEY);
+
+        if (elapsed == null && start == null)
+        {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long elapsedNanos = elapsed != null ? (Long) elapsed : now - (Long) start;
+        long rows = rowsOf(ctx);
+        String sql = ctx.sql() == null ? "batch" : normalize(ctx.sql());
+
+        StatementStats stats = statsFor(sql);
+        stats.latency().record(elapsedNanos, now);
+        stats.rows().add(rows);
+
+        if (ctx.exception() != null)
+        {
+            stats.errors().increment();
+        }
+
+        if (elapsedNanos >= slowQueryNanos)
+        {
+            slowQueries.increment();
+            LogHelper.logSlowQuery(log, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, sql, redactedBindValues(ctx.query()));
+        }
+    }
+
+    public Map<String, StatementStats> statements()
+    {
+        return statements;
+    }
+
+    public long slowQueries()
+    {
+        return slowQueries.sum();
+    }
+
+    // Literals and placeholder lists are collapsed so that IN lists and multi-row inserts of any size share one series
+    public static String normalize(String sql)
+    {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("?, ...");
+        normalized = ROW_LIST.matcher(normalized).replaceAll("$1, ...");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    // Only the types are logged, values may contain emails or other personal data
+    static List<String> redactedBindValues(Query query)
+    {
+        if (query == null)
+        {
+            return List.of();
+        }
+
+        return query.getBindValues().stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .toList();
+    }
+
+    private StatementStats statsFor(String sql)
+    {
+        StatementStats stats = statements.get(sql);
+
+        if (stats != null)
+        {
+            return stats;
+        }
+
+        String key = statements.size() >= maxStatements ? OTHER_STATEMENT : sql;
+
+        return statements.computeIfAbsent(key, k -> new StatementStats(
+                new LatencyHistogram(windowSeconds, TimeUnit.SECONDS), new LongAdder(), new LongAdder()));
+    }
+
+    private static long rowsOf(ExecuteContext ctx)
+    {
+        Object fetched = ctx.data(ROWS_KEY);
+
+        if (fetched != null)
+        {
+            return (Long) fetched;
+        }
+
+        return Math.max(0, ctx.rows());
+    }
+
+    public record StatementStats(LatencyHistogram latency, LongAdder rows, LongAdder errors)
+    {
+    }
+}
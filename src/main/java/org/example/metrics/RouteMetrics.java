@@ -0,0 +1,126 @@
+package org.example.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RouteMetrics
+{
+    private static final String OTHER_ROUTE = "other";
+
+    private final long windowSeconds;
+    private final int maxRoutes;
+    private final ConcurrentHashMap<SeriesKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RouteKey, LongAdder> inFlight = new ConcurrentHashMap<>();
+
+    public RouteMetrics(long windowSeconds, int maxRoutes)
+    {
+        this.windowSeconds = windowSeconds;
+        this.maxRoutes = maxRoutes;
+    }
+
+    public RouteKey routeOf(String method, String path)
+    {
+        RouteKey key = new RouteKey(method, normalize(path));
+
+        if (inFlight.size() >= maxRoutes && !inFlight.containsKey(key))
+        {
+            return new RouteKey(method, OTHER_ROUTE);
+        }
+
+        return key;
+    }
+
+    public void started(RouteKey route)
+    {
+        inFlight.computeIfAbsent(route, key -> new LongAdder()).increment();
+    }
+
+    public void finished(RouteKey route, int status, long elapsedNanos, long now)
+    {
+        inFlight.computeIfAbsent(route, key -> new LongAdder()).decrement();
+
+        histograms.computeIfAbsent(new SeriesKey(route, status),
+                key -> new LatencyHistogram(windowSeconds, TimeUnit.SECONDS))
+                .record(elapsedNanos, now);
+    }
+
+    public Map<SeriesKey, LatencyHistogram> histograms()
+    {
+        return histograms;
+    }
+
+    public Map<RouteKey, LongAdder> inFlight()
+    {
+        return inFlight;
+    }
+
+    // Only literal segments are kept so that ids and emails do not each create their own series
+    public static String normalize(String path)
+    {
+        if (path == null || path.isEmpty())
+        {
+            return "/";
+        }
+
+        StringBuilder normalized = new StringBuilder(path.length());
+
+        for (String segment : path.split("/"))
+        {
+            if (segment.isEmpty())
+            {
+                continue;
+            }
+
+            normalized.append('/');
+
+            if (isLiteral(segment))
+            {
+                normalized.append(segment);
+            }
+            else
+            {
+                normalized.append(isNumeric(segment) ? ":id" : ":param");
+            }
+        }
+
+        return normalized.isEmpty() ? "/" : normalized.toString();
+    }
+
+    private static boolean isLiteral(String segment)
+    {
+        for (int i = 0; i < segment.length(); ++i)
+        {
+            char c = segment.charAt(i);
+
+            if (!(c >= 'a' && c <= 'z') && c != '-' && c != '_')
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isNumeric(String segment)
+    {
+        for (int i = 0; i < segment.length(); ++i)
+        {
+            if (!Character.isDigit(segment.charAt(i)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public record RouteKey(String method, String route)
+    {
+    }
+
+    public record SeriesKey(RouteKey route, int status)
+    {
+    }
+}
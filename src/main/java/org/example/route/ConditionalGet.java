@@ -0,0 +1,84 @@
+package org.example.route;
+
+import spark.Request;
+import spark.Response;
+
+// Runs before the database is touched: the tag comes from EntityVersions, so a 304 costs no query and no serialization
+public class ConditionalGet
+{
+    private static final String[] CODING_SUFFIXES = {"-gzip\"", "-deflate\""};
+
+    // If-None-Match: * only matches an existing resource, so lookups by id check before the query with exists=false
+    // and again once the entity was found
+    public static boolean notModified(Request request, Response response, String tag, boolean exists)
+    {
+        String etag = etag(request, tag);
+
+        if (matches(request.headers("If-None-Match"), etag, exists))
+        {
+            writeHeaders(response, etag);
+            response.status(304);
+            return true;
+        }
+
+        return false;
+    }
+
+    // Only 200 responses carry the tag; errors must not be cached under it
+    public static void tag(Request request, Response response, String tag)
+    {
+        writeHeaders(response, etag(request, tag));
+    }
+
+    // If-None-Match uses weak comparison; the coding suffix added by ResponseCompression is ignored as well
+    public static boolean matches(String ifNoneMatch, String etag, boolean exists)
+    {
+        if (ifNoneMatch == null)
+        {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(","))
+        {
+            candidate = candidate.trim();
+
+            if (candidate.equals("*"))
+            {
+                return exists;
+            }
+
+            if (candidate.startsWith("W/"))
+            {
+                candidate = candidate.substring(2);
+            }
+
+            for (String suffix : CODING_SUFFIXES)
+            {
+                if (candidate.endsWith(suffix))
+                {
+                    candidate = candidate.substring(0, candidate.length() - suffix.length()) + "\"";
+                    break;
+                }
+            }
+
+            if (candidate.equals(etag))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String etag(Request request, String tag)
+    {
+        return "\"" + tag + (DtoResponses.acceptsCbor(request) ? "-cbor" : "") + "\"";
+    }
+
+    private static void writeHeaders(Response response, String etag)
+    {
+        response.header("ETag", etag);
+        response.header("Vary", "Accept");
+        response.raw().addHeader("Vary", "Accept-Encoding");
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.route;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.example.cbor.Cbor;
+import org.example.cbor.CborException;
+import org.example.config.CborProvider;
+import org.example.config.GsonProvider;
+import spark.Request;
+
+import java.util.List;
+
+// Malformed CBOR is reported as JsonSyntaxException so that routes handle both formats with the same catch block
+public class DtoRequests
+{
+    private static final Gson gson = GsonProvider.getGson();
+    private static final Cbor cbor = CborProvider.getCbor();
+
+    public static <T> T read(Request request, Class<T> type)
+    {
+        if (isCbor(request))
+        {
+            try
+            {
+                return cbor.fromCbor(type, request.bodyAsBytes());
+            }
+            catch (CborException e)
+            {
+                throw new JsonSyntaxException(e.getMessage(), e);
+            }
+        }
+
+        return gson.fromJson(request.body(), type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readList(Request request, Class<T> type)
+    {
+        if (isCbor(request))
+        {
+            try
+            {
+                return cbor.listFromCbor(type, request.bodyAsBytes());
+            }
+            catch (CborException e)
+            {
+                throw new JsonSyntaxException(e.getMessage(), e);
+            }
+        }
+
+        return (List<T>) gson.fromJson(request.body(), TypeToken.getParameterized(List.class, type).getType());
+    }
+
+    private static boolean isCbor(Request request)
+    {
+        String contentType = request.contentType();
+
+        return contentType != null && contentType.startsWith(DtoResponses.CBOR_TYPE);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.route;
+
+import com.google.gson.Gson;
+import org.example.cbor.Cbor;
+import org.example.config.CborProvider;
+import org.example.config.Config;
+import org.example.config.GsonProvider;
+import org.example.json.DtoSerializers;
+import spark.Request;
+import spark.Response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Answers in CBOR when the client accepts it, otherwise in JSON through the direct byte serializer or Gson per route;
+// the encoded body then goes through ResponseCompression
+public class DtoResponses
+{
+    public static final String CBOR_TYPE = "application/cbor";
+
+    private static final Gson gson = GsonProvider.getGson();
+    private static final Cbor cbor = CborProvider.getCbor();
+    private static final RouteSwitch directRoutes = new RouteSwitch("json.direct",
+            (method, path) -> Config.getBoolean("json.direct.default", true));
+
+    public static <T> Object object(Request request, Response response, String method, String path, Class<T> type, T dto)
+            throws IOException
+    {
+        byte[] body;
+        response.header("Vary", "Accept");
+
+        if (acceptsCbor(request))
+        {
+            response.type(CBOR_TYPE);
+            body = cbor.toCbor(type, dto);
+        }
+        else if (directRoutes.isOn(method, path))
+        {
+            body = DtoSerializers.toJson(type, dto);
+        }
+        else
+        {
+            body = gson.toJson(dto).getBytes(StandardCharsets.UTF_8);
+        }
+
+        return ResponseCompression.send(request, response, method, path, body);
+    }
+
+    public static <T> Object array(Request request, Response response, String method, String path, Class<T> type, List<T> dtos)
+            throws IOException
+    {
+        byte[] body;
+        response.header("Vary", "Accept");
+
+        if (acceptsCbor(request))
+        {
+            response.type(CBOR_TYPE);
+            body = cbor.toCbor(type, dtos);
+        }
+        else if (directRoutes.isOn(method, path))
+        {
+            body = DtoSerializers.toJson(type, dtos);
+        }
+        else
+        {
+            body = gson.toJson(dtos).getBytes(StandardCharsets.UTF_8);
+        }
+
+        return ResponseCompression.send(request, response, method, path, body);
+    }
+
+    static boolean acceptsCbor(Request request)
+    {
+        String accept = request.headers("Accept");
+
+        return accept != null && accept.contains(CBOR_TYPE);
+    }
+}
@@ -2,20 +2,28 @@ package org.example.route;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
+import org.example.booking.AvailabilityCache;
+import org.example.booking.HoldResult;
+import org.example.booking.HoldService;
+import org.example.booking.WaitingRoom;
+import org.example.cache.EntityVersions;
 import org.example.config.GsonProvider;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.EventDao;
 import org.example.dto.EventDto;
+import org.example.dto.HoldRequestDto;
+import org.example.dto.TicketDto;
 import org.example.util.ErrorMessages;
 import org.example.util.LogHelper;
 import org.example.util.Util;
-import org.jooq.DSLContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static spark.Spark.*;
 
@@ -23,11 +31,20 @@ public class EventRoutesProvider implements RoutesProvider
 {
     private static final Logger log = LoggerFactory.getLogger(EventRoutesProvider.class);
     private final EventDao eventDao;
+    private final EntityVersions eventVersions;
+    private final HoldService holdService;
+    private final AvailabilityCache availabilityCache;
+    private final WaitingRoom waitingRoom;
     private final Gson gson = GsonProvider.getGson();
 
-    public EventRoutesProvider(DSLContext dsl)
+    public EventRoutesProvider(EventDao eventDao, EntityVersions eventVersions, HoldService holdService, AvailabilityCache availabilityCache,
+                               WaitingRoom waitingRoom)
     {
-        this.eventDao = new EventDao(dsl);
+        this.eventDao = eventDao;
+        this.eventVersions = eventVersions;
+        this.holdService = holdService;
+        this.availabilityCache = availabilityCache;
+        this.waitingRoom = waitingRoom;
     }
 
     @Override
@@ -36,8 +53,12 @@ public class EventRoutesProvider implements RoutesProvider
         path("/events", () -> {
             routeFindEvents();
             routeFindEventById();
+            routeFindAvailability();
             routeAddEvent();
             routeModifyEvent();
+            routeAddHold();
+            routeConfirmHold();
+            routeReleaseHold();
         });
     }
 
@@ -61,13 +82,23 @@ public class EventRoutesProvider implements RoutesProvider
 
             LogHelper.logRequest(log, "GET", "/events", name, datetimeStart, datetimeEnd);
 
+            boolean streaming = Boolean.parseBoolean(request.queryParams("stream"));
+            Optional<PageRequest> page = Pagination.parse(request, log);
+
+            if (page.isEmpty())
+            {
+                return Pagination.invalidPage(response);
+            }
+
+            PageRequest pageRequest = page.get();
+
             if (areParametersValid(name, datetimeStart, datetimeEnd))
             {
-                List<EventDto> result;
+                Function<PageRequest, Page<EventDto>> query;
 
                 if (name != null)
                 {
-                    result = eventDao.findEventsByName(name);
+                    query = batch -> eventDao.findEventsByName(name, batch);
                 }
                 else if (datetimeStart != null && datetimeEnd != null)
                 {
@@ -76,30 +107,47 @@ public class EventRoutesProvider implements RoutesProvider
                         LocalDateTime start = LocalDateTime.parse(datetimeStart);
                         LocalDateTime end = LocalDateTime.parse(datetimeEnd);
 
-                        result = eventDao.findEventsByDateRange(start, end);
+                        query = batch -> eventDao.findEventsByDateRange(start, end, batch);
                     }
                     catch (DateTimeParseException e)
                     {
                         LogHelper.logInvalidDates(log, datetimeStart, datetimeEnd);
 
                         response.status(400);
-                        return ErrorMessages.INVALID_DATETIME;
+                        return ErrorMessages.write(response, ErrorMessages.INVALID_DATETIME);
                     }
                 }
                 else
                 {
-                    result = eventDao.findEvents();
+                    query = eventDao::findEvents;
+                }
+
+                String tag = eventVersions.tableTag();
+
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
+                if (streaming)
+                {
+                    ConditionalGet.tag(request, response, tag);
+                    return JsonStreaming.writeArray(response, EventDto.class, query);
                 }
 
-                LogHelper.logListResponse(log, result.size());
+                Page<EventDto> result = query.apply(pageRequest);
+
+                LogHelper.logListResponse(log, result.items().size());
+                Pagination.writeNextCursor(response, result);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result);
+                return DtoResponses.array(request, response, "GET", "/events", EventDto.class, result.items());
             }
             else
             {
                 LogHelper.logWrongParameters(log);
                 response.status(400);
-                return ErrorMessages.INVALID_PARAMETERS;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_PARAMETERS);
             }
         });
     }
@@ -121,26 +169,76 @@ public class EventRoutesProvider implements RoutesProvider
             {
                 LogHelper.logInvalidId(log, id);
                 response.status(400);
-                return ErrorMessages.INVALID_ID;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            String tag = eventVersions.entityTag(eventId);
+
+            if (ConditionalGet.notModified(request, response, tag, false))
+            {
+                return "";
             }
 
             Optional<EventDto> result = eventDao.findEventById(eventId);
 
             if (result.isPresent())
             {
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
                 LogHelper.logIdFound(log, "Event", id);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/events/id", EventDto.class, result.get());
             }
             else
             {
                 LogHelper.logIdNotFound(log, "Event", id);
                 response.status(404);
-                return ErrorMessages.notFound("Event");
+                return ErrorMessages.write(response, ErrorMessages.notFound("Event"));
             }
         }));
     }
 
+    private void routeFindAvailability()
+    {
+        get("/:id/availability", (request, response) -> {
+            String id = request.params(":id");
+
+            LogHelper.logRequest(log, "GET", "/events/id/availability", id);
+
+            int eventId;
+
+            try
+            {
+                eventId = Integer.parseInt(id);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidId(log, id);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            Optional<String> result = availabilityCache.findAvailabilityJson(eventId);
+
+            if (result.isPresent())
+            {
+                LogHelper.logIdFound(log, "Event", id);
+                response.status(200);
+                return result.get();
+            }
+            else
+            {
+                LogHelper.logIdNotFound(log, "Event", id);
+                response.status(404);
+                return ErrorMessages.write(response, ErrorMessages.notFound("Event"));
+            }
+        });
+    }
+
     private void routeAddEvent()
     {
         post("", (request, response) -> {
@@ -150,13 +248,13 @@ public class EventRoutesProvider implements RoutesProvider
 
             try
             {
-                eventDto = gson.fromJson(request.body(), EventDto.class);
+                eventDto = DtoRequests.read(request, EventDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "EventDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<EventDto> result = eventDao.addEvent(eventDto);
@@ -165,13 +263,13 @@ public class EventRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityAdded(log, "Event");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "POST", "/events", EventDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotAdded(log, "Event");
                 response.status(400);
-                return ErrorMessages.CANNOT_INSERT_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
             }
         });
     }
@@ -185,13 +283,13 @@ public class EventRoutesProvider implements RoutesProvider
 
             try
             {
-                eventDto = gson.fromJson(request.body(), EventDto.class);
+                eventDto = DtoRequests.read(request, EventDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "EventDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<EventDto> result = eventDao.modifyEvent(eventDto);
@@ -200,13 +298,181 @@ public class EventRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityUpdated(log, "Event");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "PUT", "/events", EventDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotUpdated(log, "Event");
                 response.status(400);
-                return ErrorMessages.CANNOT_UPDATE_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_UPDATE_DATA);
+            }
+        });
+    }
+
+    private void routeAddHold()
+    {
+        post("/:id/holds", (request, response) -> {
+            String id = request.params(":id");
+            String ttl = request.queryParams("ttlSeconds");
+
+            LogHelper.logRequest(log, "POST", "/events/id/holds", id, ttl);
+
+            int eventId;
+            long ttlSeconds;
+
+            try
+            {
+                eventId = Integer.parseInt(id);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidId(log, id);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            try
+            {
+                ttlSeconds = ttl == null ? 0 : Long.parseLong(ttl);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidTtl(log, ttl);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_TTL);
+            }
+
+            HoldRequestDto holdRequestDto;
+
+            try
+            {
+                holdRequestDto = gson.fromJson(request.body(), HoldRequestDto.class);
+            }
+            catch (JsonSyntaxException e)
+            {
+                holdRequestDto = null;
+            }
+
+            // An empty body parses to null; a rejected request must not consume a use of the queue token
+            if (holdRequestDto == null)
+            {
+                LogHelper.logWrongJson(log, "HoldRequestDto");
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
+            }
+
+            if (!waitingRoom.admits(request.headers("X-Queue-Token"), eventId))
+            {
+                LogHelper.logNotAdmitted(log, eventId);
+                response.status(403);
+                return ErrorMessages.write(response, ErrorMessages.NOT_ADMITTED);
+            }
+
+            HoldResult result = holdService.hold(eventId, holdRequestDto, ttlSeconds);
+
+            if (result.status() == HoldResult.Status.HELD)
+            {
+                LogHelper.logEntityAdded(log, "Hold");
+                response.status(200);
+                return gson.toJson(result.hold().get());
+            }
+            else if (result.status() == HoldResult.Status.SEAT_TAKEN)
+            {
+                LogHelper.logEntityNotAdded(log, "Hold");
+                response.status(409);
+                return ErrorMessages.write(response, ErrorMessages.SEAT_TAKEN);
+            }
+            else
+            {
+                LogHelper.logEntityNotAdded(log, "Hold");
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
+            }
+        });
+    }
+
+    private void routeConfirmHold()
+    {
+        post("/:id/holds/:holdId/confirm", (request, response) -> {
+            String id = request.params(":id");
+            String holdId = request.params(":holdId");
+
+            LogHelper.logRequest(log, "POST", "/events/id/holds/id/confirm", id, holdId);
+
+            int eventId;
+            int hold;
+
+            try
+            {
+                eventId = Integer.parseInt(id);
+                hold = Integer.parseInt(holdId);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidId(log, id + "/" + holdId);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            HoldResult result = holdService.confirm(eventId, hold);
+
+            if (result.status() == HoldResult.Status.CONFIRMED)
+            {
+                LogHelper.logEntityAdded(log, "Ticket");
+                response.status(200);
+                return DtoResponses.array(request, response, "POST", "/events/id/holds/id/confirm", TicketDto.class, result.tickets());
+            }
+            else if (result.status() == HoldResult.Status.NOT_FOUND)
+            {
+                LogHelper.logIdNotFound(log, "Hold", holdId);
+                response.status(404);
+                return ErrorMessages.write(response, ErrorMessages.notFound("Hold"));
+            }
+            else
+            {
+                LogHelper.logEntityNotAdded(log, "Ticket");
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
+            }
+        });
+    }
+
+    private void routeReleaseHold()
+    {
+        delete("/:id/holds/:holdId", (request, response) -> {
+            String id = request.params(":id");
+            String holdId = request.params(":holdId");
+
+            LogHelper.logRequest(log, "DELETE", "/events/id/holds/id", id, holdId);
+
+            int eventId;
+            int hold;
+
+            try
+            {
+                eventId = Integer.parseInt(id);
+                hold = Integer.parseInt(holdId);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidId(log, id + "/" + holdId);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            HoldResult result = holdService.release(eventId, hold);
+
+            if (result.status() == HoldResult.Status.RELEASED)
+            {
+                LogHelper.logIdFound(log, "Hold", holdId);
+                response.status(200);
+                return gson.toJson(result.hold().get());
+            }
+            else
+            {
+                LogHelper.logIdNotFound(log, "Hold", holdId);
+                response.status(404);
+                return ErrorMessages.write(response, ErrorMessages.notFound("Hold"));
             }
         });
     }
@@ -0,0 +1,77 @@
+package org.example.route;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import org.example.config.GsonProvider;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.util.LogHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spark.Response;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+public class JsonStreaming
+{
+    private static final Logger log = LoggerFactory.getLogger(JsonStreaming.class);
+    private static final Gson gson = GsonProvider.getGson();
+
+    // Writes every page of the query straight to the servlet stream; the committed response makes Spark skip its own
+    // body serialization
+    public static <T> Object writeArray(Response response, Class<T> type, Function<PageRequest, Page<T>> query)
+    {
+        TypeAdapter<T> adapter = gson.getAdapter(type);
+        HttpServletResponse raw = response.raw();
+        int[] count = {0};
+
+        try
+        {
+            raw.setStatus(200);
+
+            JsonWriter jsonWriter = gson.newJsonWriter(
+                    new BufferedWriter(new OutputStreamWriter(raw.getOutputStream(), StandardCharsets.UTF_8)));
+
+            jsonWriter.beginArray();
+            Page.forEachRow(query, row -> {
+                adapter.write(jsonWriter, row);
+                ++count[0];
+            });
+            jsonWriter.endArray();
+            jsonWriter.flush();
+            raw.flushBuffer();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            LogHelper.logStreamAborted(log, count[0], e);
+            abort(raw, e);
+            return "";
+        }
+
+        LogHelper.logListResponse(log, count[0]);
+        return "";
+    }
+
+    // Once the status and the opening bracket are sent, ending the array would pass a truncated list off as complete;
+    // closing the connection without the final chunk tells the client the body is incomplete
+    private static void abort(HttpServletResponse raw, Exception cause)
+    {
+        if (!raw.isCommitted())
+        {
+            raw.reset();
+            throw cause instanceof RuntimeException runtimeException ? runtimeException : new UncheckedIOException((IOException) cause);
+        }
+
+        if (raw instanceof org.eclipse.jetty.server.Response jettyResponse)
+        {
+            jettyResponse.getHttpChannel().abort(cause);
+        }
+    }
+}
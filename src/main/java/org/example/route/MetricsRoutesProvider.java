@@ -0,0 +1,134 @@
+package org.example.route;
+
+import org.example.config.Database;
+import org.example.config.PoolMetrics;
+import org.example.metrics.LatencyHistogram;
+import org.example.metrics.PrometheusWriter;
+import org.example.metrics.QueryMetrics;
+import org.example.metrics.RouteMetrics;
+
+import java.util.Map;
+
+import static spark.Spark.*;
+
+public class MetricsRoutesProvider implements RoutesProvider
+{
+    private static final String START_ATTRIBUTE = "metrics.start";
+    private static final String ROUTE_ATTRIBUTE = "metrics.route";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final RouteMetrics routeMetrics;
+
+    public MetricsRoutesProvider(RouteMetrics routeMetrics)
+    {
+        this.routeMetrics = routeMetrics;
+    }
+
+    @Override
+    public void registerRoutes()
+    {
+        before((request, response) -> {
+            RouteMetrics.RouteKey route = routeMetrics.routeOf(request.requestMethod(), request.pathInfo());
+            routeMetrics.started(route);
+
+            request.attribute(ROUTE_ATTRIBUTE, route);
+            request.attribute(START_ATTRIBUTE, System.nanoTime());
+        });
+
+        afterAfter((request, response) -> {
+            RouteMetrics.RouteKey route = request.attribute(ROUTE_ATTRIBUTE);
+            Long start = request.attribute(START_ATTRIBUTE);
+
+            if (route != null && start != null)
+            {
+                long now = System.nanoTime();
+                routeMetrics.finished(route, response.raw().getStatus(), now - start, now);
+            }
+        });
+
+        get("/metrics", (request, response) -> {
+            response.status(200);
+            response.type("text/plain; version=0.0.4; charset=utf-8");
+            return render();
+        });
+    }
+
+    private String render()
+    {
+        PrometheusWriter writer = new PrometheusWriter();
+        long now = System.nanoTime();
+
+        writer.header("http_request_duration_seconds", "summary", "Request latency by route and status");
+
+        for (Map.Entry<RouteMetrics.SeriesKey, LatencyHistogram> entry : routeMetrics.histograms().entrySet())
+        {
+            RouteMetrics.RouteKey route = entry.getKey().route();
+            String status = String.valueOf(entry.getKey().status());
+            LatencyHistogram histogram = entry.getValue();
+
+            for (double quantile : QUANTILES)
+            {
+                writer.sample("http_request_duration_seconds", histogram.quantileSeconds(quantile, now),
+                        "method", route.method(), "route", route.route(), "status", status, "quantile", String.valueOf(quantile));
+            }
+
+            writer.sample("http_request_duration_seconds_sum", histogram.sumSeconds(),
+                    "method", route.method(), "route", route.route(), "status", status);
+            writer.sample("http_request_duration_seconds_count", histogram.count(),
+                    "method", route.method(), "route", route.route(), "status", status);
+        }
+
+        writer.header("http_requests_in_flight", "gauge", "Requests currently being handled");
+        routeMetrics.inFlight().forEach((route, count) ->
+                writer.sample("http_requests_in_flight", count.sum(), "method", route.method(), "route", route.route()));
+
+        QueryMetrics queryMetrics = Database.getQueryMetrics();
+
+        writer.header("db_query_duration_seconds", "summary", "Statement execution time by normalized SQL");
+
+        for (Map.Entry<String, QueryMetrics.StatementStats> entry : queryMetrics.statements().entrySet())
+        {
+            String statement = entry.getKey();
+            LatencyHistogram histogram = entry.getValue().latency();
+
+            for (double quantile : QUANTILES)
+            {
+                writer.sample("db_query_duration_seconds", histogram.quantileSeconds(quantile, now),
+                        "statement", statement, "quantile", String.valueOf(quantile));
+            }
+
+            writer.sample("db_query_duration_seconds_sum", histogram.sumSeconds(), "statement", statement);
+            writer.sample("db_query_duration_seconds_count", histogram.count(), "statement", statement);
+        }
+
+        writer.header("db_query_rows_total", "counter", "Rows fetched or affected by normalized SQL");
+        queryMetrics.statements().forEach((statement, stats) ->
+                writer.sample("db_query_rows_total", stats.rows().sum(), "statement", statement));
+
+        writer.header("db_query_errors_total", "counter", "Failed statements by normalized SQL");
+        queryMetrics.statements().forEach((statement, stats) ->
+                writer.sample("db_query_errors_total", stats.errors().sum(), "statement", statement));
+
+        writer.header("db_slow_queries_total", "counter", "Statements slower than db.slowQueryMs");
+        writer.sample("db_slow_queries_total", queryMetrics.slowQueries());
+
+        PoolMetrics pool = Database.getPoolMetrics();
+
+        writer.header("db_pool_connections", "gauge", "Connections of the database pool by state");
+        writer.sample("db_pool_connections", pool.getActiveConnections(), "state", "active");
+        writer.sample("db_pool_connections", pool.getIdleConnections(), "state", "idle");
+        writer.sample("db_pool_connections", pool.getTotalConnections(), "state", "total");
+        writer.sample("db_pool_connections", pool.getMaxConnections(), "state", "max");
+
+        writer.header("db_pool_pending_threads", "gauge", "Threads waiting for a connection");
+        writer.sample("db_pool_pending_threads", pool.getPendingThreads());
+
+        writer.header("db_pool_acquire_total", "counter", "Connections acquired from the pool");
+        writer.sample("db_pool_acquire_total", pool.getAcquireCount());
+
+        writer.header("db_pool_timeouts_total", "counter", "Connection requests that timed out");
+        writer.sample("db_pool_timeouts_total", pool.getTimeouts());
+
+        return writer.toString();
+    }
+}
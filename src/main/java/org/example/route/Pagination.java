@@ -0,0 +1,43 @@
+package org.example.route;
+
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
+import org.example.util.ErrorMessages;
+import org.example.util.LogHelper;
+import org.slf4j.Logger;
+import spark.Request;
+import spark.Response;
+
+import java.util.Optional;
+
+// Shared by every GET collection route: limit and after are parsed the same way and answered with the same errors
+public class Pagination
+{
+    // Empty when limit or after is malformed; the route then answers with invalidPage()
+    public static Optional<PageRequest> parse(Request request, Logger log)
+    {
+        String limit = request.queryParams("limit");
+        String after = request.queryParams("after");
+
+        try
+        {
+            return Optional.of(PageRequest.parse(limit, after));
+        }
+        catch (IllegalArgumentException e)
+        {
+            LogHelper.logInvalidPage(log, limit, after);
+            return Optional.empty();
+        }
+    }
+
+    public static byte[] invalidPage(Response response)
+    {
+        response.status(400);
+        return ErrorMessages.write(response, ErrorMessages.INVALID_PAGE);
+    }
+
+    public static void writeNextCursor(Response response, Page<?> page)
+    {
+        page.nextCursor().ifPresent(cursor -> response.header("X-Next-Cursor", cursor));
+    }
+}
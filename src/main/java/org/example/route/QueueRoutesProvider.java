@@ -0,0 +1,104 @@
+package org.example.route;
+
+import com.google.gson.Gson;
+import org.example.booking.WaitingRoom;
+import org.example.config.Config;
+import org.example.config.GsonProvider;
+import org.example.dao.EventDao;
+import org.example.dto.QueueTokenDto;
+import org.example.util.ErrorMessages;
+import org.example.util.LogHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+import static spark.Spark.*;
+
+public class QueueRoutesProvider implements RoutesProvider
+{
+    private static final Logger log = LoggerFactory.getLogger(QueueRoutesProvider.class);
+    private final EventDao eventDao;
+    private final WaitingRoom waitingRoom;
+    private final Gson gson = GsonProvider.getGson();
+    private final String retryAfterSeconds = String.valueOf(Config.getInt("queue.retryAfterSeconds", 5));
+
+    public QueueRoutesProvider(EventDao eventDao, WaitingRoom waitingRoom)
+    {
+        this.eventDao = eventDao;
+        this.waitingRoom = waitingRoom;
+    }
+
+    @Override
+    public void registerRoutes()
+    {
+        path("/queue", () -> {
+            routeEnterQueue();
+            routeFindQueueToken();
+        });
+    }
+
+    private void routeEnterQueue()
+    {
+        post("", (request, response) -> {
+            String id = request.queryParams("eventId");
+
+            LogHelper.logRequest(log, "POST", "/queue", id);
+
+            int eventId;
+
+            try
+            {
+                eventId = Integer.parseInt(id);
+            }
+            catch (NumberFormatException e)
+            {
+                LogHelper.logInvalidId(log, id);
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            if (eventDao.findEventById(eventId).isEmpty())
+            {
+                LogHelper.logIdNotFound(log, "Event", id);
+                response.status(404);
+                return ErrorMessages.write(response, ErrorMessages.notFound("Event"));
+            }
+
+            Optional<QueueTokenDto> result = waitingRoom.enter(eventId);
+
+            if (result.isEmpty())
+            {
+                LogHelper.logWaitingRoomFull(log, eventId);
+                response.status(503);
+                response.header("Retry-After", retryAfterSeconds);
+                return ErrorMessages.write(response, ErrorMessages.WAITING_ROOM_FULL);
+            }
+
+            LogHelper.logEntityAdded(log, "Queue token");
+            response.header("Cache-Control", "no-store");
+            response.status(200);
+            return gson.toJson(result.get());
+        });
+    }
+
+    private void routeFindQueueToken()
+    {
+        get("/:token", (request, response) -> {
+            // The token is a bearer credential, so it is not logged
+            LogHelper.logRequest(log, "GET", "/queue/token");
+
+            Optional<QueueTokenDto> result = waitingRoom.status(request.params(":token"));
+
+            if (result.isEmpty())
+            {
+                response.status(404);
+                return ErrorMessages.write(response, ErrorMessages.notFound("Queue token"));
+            }
+
+            response.header("Cache-Control", "no-store");
+            response.status(200);
+            return gson.toJson(result.get());
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.route;
+
+import org.example.config.Config;
+import org.example.metrics.RouteMetrics;
+import org.example.util.ErrorMessages;
+import org.example.util.LogHelper;
+import org.example.util.TokenBuckets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spark.Request;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static spark.Spark.*;
+
+// Registered before every other route, so a rejected request never reaches a DAO. Limits are read and checked once
+// here, so a malformed value stops the startup instead of failing every request in the filter
+public class RateLimitRoutesProvider implements RoutesProvider
+{
+    private static final Logger log = LoggerFactory.getLogger(RateLimitRoutesProvider.class);
+    private static final Limit UNLIMITED = new Limit(0, 0);
+    private static final Map<String, Limit> DEFAULT_LIMITS = Map.of("GET /tickets", new Limit(5, 10));
+
+    private final TokenBuckets buckets;
+    private final boolean trustForwardedFor = Config.getBoolean("ratelimit.trustForwardedFor", false);
+    private final Limit defaultLimit;
+    private final Map<String, Limit> limits;
+
+    public RateLimitRoutesProvider(TokenBuckets buckets)
+    {
+        this.buckets = buckets;
+        this.defaultLimit = readLimit("ratelimit.default", UNLIMITED);
+        this.limits = readRouteLimits();
+    }
+
+    public static TokenBuckets bucketsFromConfig()
+    {
+        return new TokenBuckets(Config.getInt("ratelimit.stripes", 64), Config.getLong("ratelimit.idleSeconds", 60),
+                TimeUnit.SECONDS, System::nanoTime);
+    }
+
+    @Override
+    public void registerRoutes()
+    {
+        if (!Config.getBoolean("ratelimit.enabled", false))
+        {
+            return;
+        }
+
+        before((request, response) -> {
+            String method = request.requestMethod();
+            String route = RouteMetrics.normalize(request.pathInfo()).replace(":", "");
+            Limit limit = limits.getOrDefault(method + ' ' + route, defaultLimit);
+
+            if (limit.rate() <= 0)
+            {
+                return;
+            }
+
+            long waitNanos = buckets.acquire(clientOf(request) + ' ' + method + ' ' + route, limit.rate(), limit.burst());
+
+            if (waitNanos > 0)
+            {
+                LogHelper.logRateLimited(log, method, route);
+                reject(response.raw(), waitNanos);
+                halt(429);
+            }
+        });
+    }
+
+    // The body is written and committed here, so Spark does not serialize the empty halt body after it
+    private static void reject(HttpServletResponse raw, long waitNanos) throws IOException
+    {
+        byte[] body = ErrorMessages.TOO_MANY_REQUESTS;
+
+        raw.setStatus(429);
+        raw.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+        raw.setContentLength(body.length);
+        raw.getOutputStream().write(body);
+        raw.flushBuffer();
+    }
+
+    private String clientOf(Request request)
+    {
+        if (trustForwardedFor)
+        {
+            String forwardedFor = request.headers("X-Forwarded-For");
+
+            if (forwardedFor != null && !forwardedFor.isBlank())
+            {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+
+        return request.ip();
+    }
+
+    // Keys are ratelimit.<METHOD>.<route>.rate and .burst; routes without a key keep their built-in limit
+    private Map<String, Limit> readRouteLimits()
+    {
+        Map<String, Limit> routeLimits = new HashMap<>();
+
+        for (String key : Config.getByPrefix("ratelimit.").keySet())
+        {
+            int dot = key.indexOf('.');
+
+            if (!key.endsWith(".rate") || dot < 0 || key.charAt(dot + 1) != '/')
+            {
+                continue;
+            }
+
+            String route = key.substring(0, key.length() - ".rate".length());
+            routeLimits.put(route.substring(0, dot) + ' ' + route.substring(dot + 1), readLimit("ratelimit." + route, defaultLimit));
+        }
+
+        DEFAULT_LIMITS.forEach(routeLimits::putIfAbsent);
+
+        return Map.copyOf(routeLimits);
+    }
+
+    private static Limit readLimit(String prefix, Limit fallback)
+    {
+        String rate = Config.get(prefix + ".rate");
+
+        if (rate == null)
+        {
+            return fallback;
+        }
+
+        double perSecond;
+        int burst;
+
+        try
+        {
+            perSecond = Double.parseDouble(rate.trim());
+            burst = Config.getInt(prefix + ".burst", (int) Math.max(1, Math.ceil(perSecond)));
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Invalid rate limit " + prefix + ": " + e.getMessage(), e);
+        }
+
+        if (!Double.isFinite(perSecond) || perSecond < 0 || (perSecond > 0 && burst < 1))
+        {
+            throw new IllegalArgumentException("Invalid rate limit " + prefix + ": rate must be at least 0 and burst at least 1");
+        }
+
+        return new Limit(perSecond, burst);
+    }
+
+    private record Limit(double rate, int burst)
+    {
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.route;
+
+import org.example.cache.CompressedBodyCache;
+import org.example.config.Config;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Compressed bodies are written to the servlet stream directly; Spark would otherwise gzip them a second time
+public class ResponseCompression
+{
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final Set<String> CACHED_BY_DEFAULT = Set.of("GET /seats");
+
+    private static final boolean enabled = Config.getBoolean("compression.enabled", true);
+    private static final int minBytes = Config.getInt("compression.minBytes", 1024);
+    private static final int level = Config.getInt("compression.level", 6);
+    private static final CompressedBodyCache cache =
+            new CompressedBodyCache(Config.getLong("compression.cache.maxBytes", 64L * 1024 * 1024));
+    private static final RouteSwitch cachedRoutes = new RouteSwitch("compression.cache",
+            (method, path) -> CACHED_BY_DEFAULT.contains(method + " " + path));
+
+    public static Object send(Request request, Response response, String method, String path, byte[] body) throws IOException
+    {
+        HttpServletResponse raw = response.raw();
+        String encoding = enabled && body.length >= minBytes ? negotiate(request.headers("Accept-Encoding")) : null;
+
+        if (enabled && !raw.getHeaders("Vary").contains("Accept-Encoding"))
+        {
+            raw.addHeader("Vary", "Accept-Encoding");
+        }
+
+        if (encoding == null)
+        {
+            raw.setContentLength(body.length);
+            return body;
+        }
+
+        byte[] compressed;
+
+        if (cachedRoutes.isOn(method, path))
+        {
+            String key = encoding + ' ' + raw.getContentType() + ' ' + method + ' ' + request.pathInfo() + '?' + request.queryString();
+            compressed = cache.get(key, body);
+
+            if (compressed == null)
+            {
+                compressed = compress(body, encoding);
+                cache.put(key, body, compressed);
+            }
+        }
+        else
+        {
+            compressed = compress(body, encoding);
+        }
+
+        String etag = raw.getHeader("ETag");
+
+        // A strong tag names one representation, so the compressed body gets its own
+        if (etag != null && etag.endsWith("\""))
+        {
+            raw.setHeader("ETag", etag.substring(0, etag.length() - 1) + "-" + encoding + "\"");
+        }
+
+        raw.setHeader("Content-Encoding", encoding);
+        raw.setContentLength(compressed.length);
+        raw.getOutputStream().write(compressed);
+        raw.flushBuffer();
+        return "";
+    }
+
+    public static Map<String, Object> cacheSnapshot()
+    {
+        return cache.snapshot();
+    }
+
+    // gzip is preferred when both are accepted; q-values other than 0 are not ranked
+    static String negotiate(String acceptEncoding)
+    {
+        if (acceptEncoding == null)
+        {
+            return null;
+        }
+
+        boolean gzip = false;
+        boolean deflate = false;
+
+        for (String part : acceptEncoding.split(","))
+        {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            boolean refused = false;
+
+            for (int i = 1; i < tokens.length; ++i)
+            {
+                String parameter = tokens[i].trim().replace(" ", "");
+
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0{0,3})?"))
+                {
+                    refused = true;
+                }
+            }
+
+            if (refused)
+            {
+                continue;
+            }
+
+            if (coding.equals(GZIP) || coding.equals("x-gzip") || coding.equals("*"))
+            {
+                gzip = true;
+            }
+            else if (coding.equals(DEFLATE))
+            {
+                deflate = true;
+            }
+        }
+
+        return gzip ? GZIP : deflate ? DEFLATE : null;
+    }
+
+    static byte[] compress(byte[] body, String encoding) throws IOException
+    {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+
+        if (encoding.equals(GZIP))
+        {
+            try (OutputStream out = new LevelGzipOutputStream(buffer, level))
+            {
+                out.write(body);
+            }
+        }
+        else
+        {
+            Deflater deflater = new Deflater(level);
+
+            try (OutputStream out = new DeflaterOutputStream(buffer, deflater))
+            {
+                out.write(body);
+            }
+            finally
+            {
+                deflater.end();
+            }
+        }
+
+        return buffer.toByteArray();
+    }
+
+    private static class LevelGzipOutputStream extends GZIPOutputStream
+    {
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException
+        {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
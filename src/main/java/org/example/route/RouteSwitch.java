@@ -0,0 +1,40 @@
+package org.example.route;
+
+import org.example.config.Config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+// A boolean setting "<prefix>.<METHOD>.<path>" read once per route, with the path as passed to LogHelper.logRequest
+class RouteSwitch
+{
+    private final String prefix;
+    private final BiPredicate<String, String> defaultValue;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Boolean>> values = new ConcurrentHashMap<>();
+
+    RouteSwitch(String prefix, BiPredicate<String, String> defaultValue)
+    {
+        this.prefix = prefix;
+        this.defaultValue = defaultValue;
+    }
+
+    boolean isOn(String method, String path)
+    {
+        ConcurrentHashMap<String, Boolean> byPath = values.get(method);
+
+        if (byPath == null)
+        {
+            byPath = values.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+
+        Boolean value = byPath.get(path);
+
+        if (value == null)
+        {
+            value = byPath.computeIfAbsent(path, key -> Config.getBoolean(prefix + "." + method + "." + key,
+                    defaultValue.test(method, key)));
+        }
+
+        return value;
+    }
+}
@@ -1,19 +1,20 @@
 package org.example.route;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
-import org.example.config.GsonProvider;
+import org.example.booking.SeatInventory;
+import org.example.cache.EntityVersions;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.SeatDao;
 import org.example.dto.SeatDto;
 import org.example.util.ErrorMessages;
 import org.example.util.LogHelper;
 import org.example.util.Util;
-import org.jooq.DSLContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static spark.Spark.*;
 
@@ -21,11 +22,14 @@ public class SeatRoutesProvider implements RoutesProvider
 {
     private static final Logger log = LoggerFactory.getLogger(SeatRoutesProvider.class);
     private final SeatDao seatDao;
-    private final Gson gson = GsonProvider.getGson();
+    private final EntityVersions seatVersions;
+    private final SeatInventory seatInventory;
 
-    public SeatRoutesProvider(DSLContext dsl)
+    public SeatRoutesProvider(SeatDao seatDao, EntityVersions seatVersions, SeatInventory seatInventory)
     {
-        this.seatDao = new SeatDao(dsl);
+        this.seatDao = seatDao;
+        this.seatVersions = seatVersions;
+        this.seatInventory = seatInventory;
     }
 
     @Override
@@ -58,9 +62,19 @@ public class SeatRoutesProvider implements RoutesProvider
 
             LogHelper.logRequest(log, "GET", "/seats", venueId, seatRow);
 
+            boolean streaming = Boolean.parseBoolean(request.queryParams("stream"));
+            Optional<PageRequest> page = Pagination.parse(request, log);
+
+            if (page.isEmpty())
+            {
+                return Pagination.invalidPage(response);
+            }
+
+            PageRequest pageRequest = page.get();
+
             if (areParametersValid(venueId, seatRow))
             {
-                List<SeatDto> result;
+                Function<PageRequest, Page<SeatDto>> query;
 
                 if (venueId != null)
                 {
@@ -74,32 +88,49 @@ public class SeatRoutesProvider implements RoutesProvider
                     {
                         LogHelper.logInvalidId(log, venueId);
                         response.status(400);
-                        return ErrorMessages.INVALID_ID;
+                        return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
                     }
 
                     if (seatRow != null)
                     {
-                        result = seatDao.findSeatsByVenueAndSeatRow(venue, seatRow);
+                        query = batch -> seatDao.findSeatsByVenueAndSeatRow(venue, seatRow, batch);
                     }
                     else
                     {
-                        result = seatDao.findSeatsByVenue(venue);
+                        query = batch -> seatDao.findSeatsByVenue(venue, batch);
                     }
                 }
                 else
                 {
-                    result = seatDao.findSeats();
+                    query = seatDao::findSeats;
                 }
 
-                LogHelper.logListResponse(log, result.size());
+                String tag = seatVersions.tableTag();
+
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
+                if (streaming)
+                {
+                    ConditionalGet.tag(request, response, tag);
+                    return JsonStreaming.writeArray(response, SeatDto.class, query);
+                }
+
+                Page<SeatDto> result = query.apply(pageRequest);
+
+                LogHelper.logListResponse(log, result.items().size());
+                Pagination.writeNextCursor(response, result);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result);
+                return DtoResponses.array(request, response, "GET", "/seats", SeatDto.class, result.items());
             }
             else
             {
                 LogHelper.logWrongParameters(log);
                 response.status(400);
-                return ErrorMessages.INVALID_PARAMETERS;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_PARAMETERS);
             }
         }));
     }
@@ -121,22 +152,35 @@ public class SeatRoutesProvider implements RoutesProvider
             {
                 LogHelper.logInvalidId(log, id);
                 response.status(400);
-                return ErrorMessages.INVALID_ID;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            String tag = seatVersions.entityTag(seatId);
+
+            if (ConditionalGet.notModified(request, response, tag, false))
+            {
+                return "";
             }
 
             Optional<SeatDto> result = seatDao.findSeatById(seatId);
 
             if (result.isPresent())
             {
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
                 LogHelper.logIdFound(log, "Seat", id);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/seats/id", SeatDto.class, result.get());
             }
             else
             {
                 LogHelper.logIdNotFound(log, "Seat", id);
                 response.status(404);
-                return ErrorMessages.notFound("Seat");
+                return ErrorMessages.write(response, ErrorMessages.notFound("Seat"));
             }
         }));
     }
@@ -150,28 +194,29 @@ public class SeatRoutesProvider implements RoutesProvider
 
             try
             {
-                seatDto = gson.fromJson(request.body(), SeatDto.class);
+                seatDto = DtoRequests.read(request, SeatDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "SeatDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<SeatDto> result = seatDao.addSeat(seatDto);
 
             if (result.isPresent())
             {
+                seatInventory.refreshVenue(result.get().venueId());
                 LogHelper.logEntityAdded(log, "Seat");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "POST", "/seats", SeatDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotAdded(log, "Seat");
                 response.status(400);
-                return ErrorMessages.CANNOT_INSERT_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
             }
         });
     }
@@ -185,28 +230,33 @@ public class SeatRoutesProvider implements RoutesProvider
 
             try
             {
-                seatDto = gson.fromJson(request.body(), SeatDto.class);
+                seatDto = DtoRequests.read(request, SeatDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "SeatDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
+            Optional<Integer> previousVenueId = seatDao.findSeatById(seatDto.seatId()).map(SeatDto::venueId);
             Optional<SeatDto> result = seatDao.modifySeat(seatDto);
 
             if (result.isPresent())
             {
+                int venueId = result.get().venueId();
+
+                seatInventory.refreshVenue(venueId);
+                previousVenueId.filter(previous -> previous != venueId).ifPresent(seatInventory::refreshVenue);
                 LogHelper.logEntityUpdated(log, "Seat");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "PUT", "/seats", SeatDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotUpdated(log, "Seat");
                 response.status(400);
-                return ErrorMessages.CANNOT_UPDATE_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_UPDATE_DATA);
             }
         });
     }
@@ -0,0 +1,104 @@
+package org.example.route;
+
+import com.google.gson.Gson;
+import org.example.booking.BookingShards;
+import org.example.cache.BloomFilter;
+import org.example.cache.NegativeCache;
+import org.example.cache.ReadThroughCache;
+import org.example.cache.SingleFlight;
+import org.example.config.Database;
+import org.example.config.GsonProvider;
+import org.example.util.LogHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static spark.Spark.*;
+
+public class StatsRoutesProvider implements RoutesProvider
+{
+    private static final Logger log = LoggerFactory.getLogger(StatsRoutesProvider.class);
+    private final List<ReadThroughCache<?, ?>> caches;
+    private final List<NegativeCache<?>> negativeCaches;
+    private final List<SingleFlight> flights;
+    private final List<Supplier<BloomFilter>> filters;
+    private final BookingShards bookingShards;
+    private final Gson gson = GsonProvider.getGson();
+
+    public StatsRoutesProvider(List<ReadThroughCache<?, ?>> caches, List<NegativeCache<?>> negativeCaches, List<SingleFlight> flights,
+                               List<Supplier<BloomFilter>> filters, BookingShards bookingShards)
+    {
+        this.caches = caches;
+        this.negativeCaches = negativeCaches;
+        this.flights = flights;
+        this.filters = filters;
+        this.bookingShards = bookingShards;
+    }
+
+    @Override
+    public void registerRoutes()
+    {
+        path("/stats", () -> {
+            routePoolStats();
+            routeCacheStats();
+            routeCoalescingStats();
+            routeBookingStats();
+        });
+    }
+
+    private void routePoolStats()
+    {
+        get("/pool", (request, response) -> {
+            LogHelper.logRequest(log, "GET", "/stats/pool");
+
+            response.status(200);
+            return gson.toJson(Database.getPoolMetrics().snapshot());
+        });
+    }
+
+    private void routeCacheStats()
+    {
+        get("/cache", (request, response) -> {
+            LogHelper.logRequest(log, "GET", "/stats/cache");
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            caches.forEach(cache -> stats.put(cache.name(), cache.snapshot()));
+            negativeCaches.forEach(cache -> stats.put("missing." + cache.name(), cache.snapshot()));
+            filters.forEach(current -> {
+                BloomFilter filter = current.get();
+                stats.put("filter." + filter.name(), filter.snapshot());
+            });
+            stats.put("compressedBodies", ResponseCompression.cacheSnapshot());
+
+            response.status(200);
+            return gson.toJson(stats);
+        });
+    }
+
+    private void routeCoalescingStats()
+    {
+        get("/coalescing", (request, response) -> {
+            LogHelper.logRequest(log, "GET", "/stats/coalescing");
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            flights.forEach(flight -> stats.put(flight.name(), flight.snapshot()));
+
+            response.status(200);
+            return gson.toJson(stats);
+        });
+    }
+
+    private void routeBookingStats()
+    {
+        get("/booking", (request, response) -> {
+            LogHelper.logRequest(log, "GET", "/stats/booking");
+
+            response.status(200);
+            return gson.toJson(bookingShards.snapshot());
+        });
+    }
+}
@@ -2,18 +2,27 @@ package org.example.route;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
+import org.example.booking.BookingResult;
+import org.example.booking.BookingService;
+import org.example.booking.BookingShards;
+import org.example.booking.SeatInventory;
+import org.example.booking.WaitingRoom;
+import org.example.config.Config;
 import org.example.config.GsonProvider;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.TicketDao;
+import org.example.dto.TicketBatchResultDto;
 import org.example.dto.TicketDto;
 import org.example.util.ErrorMessages;
 import org.example.util.LogHelper;
 import org.example.util.Util;
-import org.jooq.DSLContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,11 +33,17 @@ public class TicketRoutesProvider implements RoutesProvider
 {
     private static final Logger log = LoggerFactory.getLogger(TicketRoutesProvider.class);
     private final TicketDao ticketDao;
+    private final BookingService bookingService;
+    private final WaitingRoom waitingRoom;
     private final Gson gson = GsonProvider.getGson();
+    private final int maxBatchSize = Config.getInt("tickets.batch.maxSize", 500);
+    private final String retryAfterSeconds = String.valueOf(Config.getInt("booking.shards.retryAfterSeconds", 1));
 
-    public TicketRoutesProvider(DSLContext dsl)
+    public TicketRoutesProvider(TicketDao ticketDao, SeatInventory seatInventory, BookingShards bookingShards, WaitingRoom waitingRoom)
     {
-        this.ticketDao = new TicketDao(dsl);
+        this.ticketDao = ticketDao;
+        this.bookingService = new BookingService(ticketDao, seatInventory, bookingShards);
+        this.waitingRoom = waitingRoom;
     }
 
     @Override
@@ -38,6 +53,7 @@ public class TicketRoutesProvider implements RoutesProvider
             routeFindTicket();
             routeFindTicketById();
             routeAddTicket();
+            routeAddTicketBatch();
             routeModifyTicket();
         });
     }
@@ -64,55 +80,89 @@ public class TicketRoutesProvider implements RoutesProvider
 
             LogHelper.logRequest(log, "GET", "/tickets", eventId, userId, datetimeStart, datetimeEnd);
 
+            boolean streaming = Boolean.parseBoolean(request.queryParams("stream"));
+            Optional<PageRequest> page = Pagination.parse(request, log);
+
+            if (page.isEmpty())
+            {
+                return Pagination.invalidPage(response);
+            }
+
+            PageRequest pageRequest = page.get();
+
             if (areParametersValid(eventId, userId, datetimeStart, datetimeEnd))
             {
-                List<TicketDto> result;
+                Page<TicketDto> result;
 
                 try
                 {
                     if (eventId != null)
                     {
                         int event = Integer.parseInt(eventId);
-                        result = ticketDao.findTicketsByEventId(event);
+
+                        if (streaming)
+                        {
+                            return JsonStreaming.writeArray(response, TicketDto.class, batch -> ticketDao.findTicketsByEventId(event, batch));
+                        }
+
+                        result = ticketDao.findTicketsByEventId(event, pageRequest);
                     }
                     else if (userId != null)
                     {
                         int user = Integer.parseInt(userId);
-                        result = ticketDao.findTicketsByUserId(user);
+
+                        if (streaming)
+                        {
+                            return JsonStreaming.writeArray(response, TicketDto.class, batch -> ticketDao.findTicketsByUserId(user, batch));
+                        }
+
+                        result = ticketDao.findTicketsByUserId(user, pageRequest);
                     }
                     else if (datetimeStart != null && datetimeEnd != null)
                     {
                         LocalDateTime start = LocalDateTime.parse(datetimeStart);
                         LocalDateTime end = LocalDateTime.parse(datetimeEnd);
-                        result = ticketDao.findTicketsByBookedDate(start, end);
+
+                        if (streaming)
+                        {
+                            return JsonStreaming.writeArray(response, TicketDto.class, batch -> ticketDao.findTicketsByBookedDate(start, end, batch));
+                        }
+
+                        result = ticketDao.findTicketsByBookedDate(start, end, pageRequest);
                     }
                     else
                     {
-                        result = ticketDao.findTickets();
+                        if (streaming)
+                        {
+                            return JsonStreaming.writeArray(response, TicketDto.class, ticketDao::findTickets);
+                        }
+
+                        result = ticketDao.findTickets(pageRequest);
                     }
                 }
                 catch (NumberFormatException e)
                 {
                     LogHelper.logInvalidId(log, Objects.requireNonNullElse(eventId, userId));
                     response.status(400);
-                    return ErrorMessages.INVALID_ID;
+                    return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
                 }
                 catch (DateTimeParseException e)
                 {
                     LogHelper.logInvalidDates(log, datetimeStart, datetimeEnd);
                     response.status(400);
-                    return ErrorMessages.INVALID_DATETIME;
+                    return ErrorMessages.write(response, ErrorMessages.INVALID_DATETIME);
                 }
 
-                LogHelper.logListResponse(log, result.size());
+                LogHelper.logListResponse(log, result.items().size());
+                Pagination.writeNextCursor(response, result);
                 response.status(200);
-                return gson.toJson(result);
+                return DtoResponses.array(request, response, "GET", "/tickets", TicketDto.class, result.items());
             }
             else
             {
                 LogHelper.logWrongParameters(log);
                 response.status(400);
-                return ErrorMessages.INVALID_PARAMETERS;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_PARAMETERS);
             }
         });
     }
@@ -134,7 +184,7 @@ public class TicketRoutesProvider implements RoutesProvider
             {
                 LogHelper.logInvalidId(log, id);
                 response.status(400);
-                return ErrorMessages.INVALID_ID;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
             }
 
             Optional<TicketDto> result = ticketDao.findTicketById(ticketId);
@@ -143,13 +193,13 @@ public class TicketRoutesProvider implements RoutesProvider
             {
                 LogHelper.logIdFound(log, "Ticket", id);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/tickets/id", TicketDto.class, result.get());
             }
             else
             {
                 LogHelper.logIdNotFound(log, "Ticket", id);
                 response.status(404);
-                return ErrorMessages.notFound("Ticket");
+                return ErrorMessages.write(response, ErrorMessages.notFound("Ticket"));
             }
         });
     }
@@ -163,29 +213,137 @@ public class TicketRoutesProvider implements RoutesProvider
 
             try
             {
-                ticketDto = gson.fromJson(request.body(), TicketDto.class);
+                ticketDto = DtoRequests.read(request, TicketDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "TicketDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
-            Optional<TicketDto> result = ticketDao.addTicket(ticketDto);
+            if (!waitingRoom.admits(request.headers("X-Queue-Token"), ticketDto.eventId()))
+            {
+                LogHelper.logNotAdmitted(log, ticketDto.eventId());
+                response.status(403);
+                return ErrorMessages.write(response, ErrorMessages.NOT_ADMITTED);
+            }
 
-            if (result.isPresent())
+            BookingResult result = bookingService.book(ticketDto);
+
+            if (result.status() == BookingResult.Status.BOOKED)
             {
                 LogHelper.logEntityAdded(log, "Ticket");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "POST", "/tickets", TicketDto.class, result.ticket().get());
+            }
+            else if (result.status() == BookingResult.Status.SEAT_TAKEN)
+            {
+                LogHelper.logSeatTaken(log, ticketDto.eventId(), ticketDto.seatId());
+                response.status(409);
+                return ErrorMessages.write(response, ErrorMessages.SEAT_TAKEN);
+            }
+            else if (result.status() == BookingResult.Status.BUSY)
+            {
+                LogHelper.logBookingBusy(log, ticketDto.eventId());
+                response.status(503);
+                response.header("Retry-After", retryAfterSeconds);
+                return ErrorMessages.write(response, ErrorMessages.BOOKING_BUSY);
             }
             else
             {
                 LogHelper.logEntityNotAdded(log, "Ticket");
                 response.status(400);
-                return ErrorMessages.CANNOT_INSERT_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
+            }
+        });
+    }
+
+    private void routeAddTicketBatch()
+    {
+        post("/batch", (request, response) -> {
+            List<TicketDto> ticketDtos;
+            boolean atomic = Boolean.parseBoolean(request.queryParams("atomic"));
+
+            LogHelper.logRequest(log, "POST", "/tickets/batch", atomic);
+
+            try
+            {
+                ticketDtos = DtoRequests.readList(request, TicketDto.class);
+            }
+            catch (JsonSyntaxException e)
+            {
+                LogHelper.logWrongJson(log, "List<TicketDto>");
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
+            }
+
+            if (ticketDtos == null || ticketDtos.isEmpty() || ticketDtos.size() > maxBatchSize || ticketDtos.contains(null))
+            {
+                LogHelper.logInvalidBatch(log, ticketDtos == null ? 0 : ticketDtos.size());
+                response.status(400);
+                return ErrorMessages.write(response, ErrorMessages.INVALID_BATCH);
+            }
+
+            // Every event is checked before any use of the token is taken, then each is admitted once; only a
+            // concurrent request using up the token can still fail the second pass
+            String queueToken = request.headers("X-Queue-Token");
+            List<Integer> eventIds = ticketDtos.stream()
+                    .map(TicketDto::eventId)
+                    .distinct()
+                    .toList();
+            Optional<Integer> notAdmitted = eventIds.stream()
+                    .filter(eventId -> !waitingRoom.wouldAdmit(queueToken, eventId))
+                    .findFirst()
+                    .or(() -> eventIds.stream()
+                            .filter(eventId -> !waitingRoom.admits(queueToken, eventId))
+                            .findFirst());
+
+            if (notAdmitted.isPresent())
+            {
+                LogHelper.logNotAdmitted(log, notAdmitted.get());
+                response.status(403);
+                return ErrorMessages.write(response, ErrorMessages.NOT_ADMITTED);
+            }
+
+            List<BookingResult> results = bookingService.bookBatch(ticketDtos, atomic);
+
+            if (results.get(0).status() == BookingResult.Status.BUSY)
+            {
+                LogHelper.logBookingBusy(log, ticketDtos.get(0).eventId());
+                response.status(503);
+                response.header("Retry-After", retryAfterSeconds);
+                return ErrorMessages.write(response, ErrorMessages.BOOKING_BUSY);
+            }
+
+            List<TicketBatchResultDto> resultDtos = new ArrayList<>(results.size());
+
+            for (int i = 0; i < results.size(); ++i)
+            {
+                BookingResult result = results.get(i);
+                resultDtos.add(TicketBatchResultDto.create(i, result.status().name(), result.ticket()));
             }
+
+            long booked = results.stream()
+                    .filter(result -> result.status() == BookingResult.Status.BOOKED)
+                    .count();
+
+            LogHelper.logBatchProcessed(log, "Ticket", booked, results.size());
+
+            if (!atomic || booked == results.size())
+            {
+                response.status(200);
+            }
+            else if (results.stream().anyMatch(result -> result.status() == BookingResult.Status.SEAT_TAKEN))
+            {
+                response.status(409);
+            }
+            else
+            {
+                response.status(400);
+            }
+
+            return gson.toJson(resultDtos);
         });
     }
 
@@ -198,28 +356,48 @@ public class TicketRoutesProvider implements RoutesProvider
 
             try
             {
-                ticketDto = gson.fromJson(request.body(), TicketDto.class);
+                ticketDto = DtoRequests.read(request, TicketDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "TicketDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
-            Optional<TicketDto> result = ticketDao.modifyTicket(ticketDto);
+            if (!waitingRoom.admits(request.headers("X-Queue-Token"), ticketDto.eventId()))
+            {
+                LogHelper.logNotAdmitted(log, ticketDto.eventId());
+                response.status(403);
+                return ErrorMessages.write(response, ErrorMessages.NOT_ADMITTED);
+            }
 
-            if (result.isPresent())
+            BookingResult result = bookingService.modify(ticketDto);
+
+            if (result.status() == BookingResult.Status.BOOKED)
             {
                 LogHelper.logEntityUpdated(log, "Ticket");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "PUT", "/tickets", TicketDto.class, result.ticket().get());
+            }
+            else if (result.status() == BookingResult.Status.SEAT_TAKEN)
+            {
+                LogHelper.logSeatTaken(log, ticketDto.eventId(), ticketDto.seatId());
+                response.status(409);
+                return ErrorMessages.write(response, ErrorMessages.SEAT_TAKEN);
+            }
+            else if (result.status() == BookingResult.Status.BUSY)
+            {
+                LogHelper.logBookingBusy(log, ticketDto.eventId());
+                response.status(503);
+                response.header("Retry-After", retryAfterSeconds);
+                return ErrorMessages.write(response, ErrorMessages.BOOKING_BUSY);
             }
             else
             {
                 LogHelper.logEntityNotUpdated(log, "Ticket");
                 response.status(400);
-                return ErrorMessages.CANNOT_UPDATE_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_UPDATE_DATA);
             }
         });
     }
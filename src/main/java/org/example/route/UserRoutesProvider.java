@@ -1,20 +1,18 @@
 package org.example.route;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
-import org.example.config.GsonProvider;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.UserDao;
 import org.example.dto.UserDto;
 import org.example.util.ErrorMessages;
 import org.example.util.LogHelper;
 import org.example.util.Util;
-import org.jooq.DSLContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 import java.util.Optional;
 
 import static spark.Spark.*;
@@ -23,11 +21,10 @@ public class UserRoutesProvider implements RoutesProvider
 {
     private static final Logger log = LoggerFactory.getLogger(UserRoutesProvider.class);
     private final UserDao userDao;
-    private final Gson gson = GsonProvider.getGson();
 
-    public UserRoutesProvider(DSLContext dsl)
+    public UserRoutesProvider(UserDao userDao)
     {
-        userDao = new UserDao(dsl);
+        this.userDao = userDao;
     }
 
     @Override
@@ -62,13 +59,28 @@ public class UserRoutesProvider implements RoutesProvider
 
             LogHelper.logRequest(log, "GET", "/users", name, datetimeStart, datetimeEnd);
 
+            boolean streaming = Boolean.parseBoolean(request.queryParams("stream"));
+            Optional<PageRequest> page = Pagination.parse(request, log);
+
+            if (page.isEmpty())
+            {
+                return Pagination.invalidPage(response);
+            }
+
+            PageRequest pageRequest = page.get();
+
             if (areParametersValid(name, datetimeStart, datetimeEnd))
             {
-                List<UserDto> result;
+                Page<UserDto> result;
 
                 if (name != null)
                 {
-                    result = userDao.findUsersByName(name);
+                    if (streaming)
+                    {
+                        return JsonStreaming.writeArray(response, UserDto.class, batch -> userDao.findUsersByName(name, batch));
+                    }
+
+                    result = userDao.findUsersByName(name, pageRequest);
                 }
                 else if (datetimeStart != null && datetimeEnd != null)
                 {
@@ -77,29 +89,40 @@ public class UserRoutesProvider implements RoutesProvider
                         LocalDateTime start = LocalDateTime.parse(datetimeStart);
                         LocalDateTime end = LocalDateTime.parse(datetimeEnd);
 
-                        result = userDao.findUserByCreationDatetime(start, end);
+                        if (streaming)
+                        {
+                            return JsonStreaming.writeArray(response, UserDto.class, batch -> userDao.findUserByCreationDatetime(start, end, batch));
+                        }
+
+                        result = userDao.findUserByCreationDatetime(start, end, pageRequest);
                     }
                     catch (DateTimeParseException e)
                     {
                         LogHelper.logInvalidDates(log, datetimeStart, datetimeEnd);
                         response.status(400);
-                        return ErrorMessages.INVALID_DATETIME;
+                        return ErrorMessages.write(response, ErrorMessages.INVALID_DATETIME);
                     }
                 }
                 else
                 {
-                    result = userDao.findUsers();
+                    if (streaming)
+                    {
+                        return JsonStreaming.writeArray(response, UserDto.class, userDao::findUsers);
+                    }
+
+                    result = userDao.findUsers(pageRequest);
                 }
 
-                LogHelper.logListResponse(log, result.size());
+                LogHelper.logListResponse(log, result.items().size());
+                Pagination.writeNextCursor(response, result);
                 response.status(200);
-                return gson.toJson(result);
+                return DtoResponses.array(request, response, "GET", "/users", UserDto.class, result.items());
             }
             else
             {
                 LogHelper.logWrongParameters(log);
                 response.status(400);
-                return ErrorMessages.INVALID_PARAMETERS;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_PARAMETERS);
             }
         });
     }
@@ -121,7 +144,7 @@ public class UserRoutesProvider implements RoutesProvider
             {
                 LogHelper.logInvalidId(log, id);
                 response.status(400);
-                return ErrorMessages.INVALID_ID;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
             }
             Optional<UserDto> result = userDao.findUserById(userId);
 
@@ -129,13 +152,13 @@ public class UserRoutesProvider implements RoutesProvider
             {
                 LogHelper.logIdFound(log, "User", id);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/users/id", UserDto.class, result.get());
             }
             else
             {
                 LogHelper.logIdNotFound(log, "User", id);
                 response.status(404);
-                return ErrorMessages.notFound("User");
+                return ErrorMessages.write(response, ErrorMessages.notFound("User"));
             }
         });
     }
@@ -153,13 +176,13 @@ public class UserRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEmailFound(log, email);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/users/email", UserDto.class, result.get());
             }
             else
             {
                 LogHelper.logEmailNotFound(log, email);
                 response.status(404);
-                return ErrorMessages.notFound("User");
+                return ErrorMessages.write(response, ErrorMessages.notFound("User"));
             }
         });
     }
@@ -173,13 +196,13 @@ public class UserRoutesProvider implements RoutesProvider
 
             try
             {
-                userDto = gson.fromJson(request.body(), UserDto.class);
+                userDto = DtoRequests.read(request, UserDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "UserDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<UserDto> result = userDao.addUser(userDto);
@@ -188,13 +211,13 @@ public class UserRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityAdded(log, "User");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "POST", "/users", UserDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotAdded(log, "User");
                 response.status(400);
-                return ErrorMessages.CANNOT_INSERT_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
             }
         });
     }
@@ -209,13 +232,13 @@ public class UserRoutesProvider implements RoutesProvider
 
             try
             {
-                userDto = gson.fromJson(request.body(), UserDto.class);
+                userDto = DtoRequests.read(request, UserDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "UserDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<UserDto> result = userDao.modifyUser(userDto);
@@ -224,13 +247,13 @@ public class UserRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityUpdated(log, "User");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "PUT", "/users", UserDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotUpdated(log, "User");
                 response.status(400);
-                return ErrorMessages.CANNOT_UPDATE_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_UPDATE_DATA);
             }
         });
     }
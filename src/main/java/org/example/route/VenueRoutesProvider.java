@@ -1,19 +1,19 @@
 package org.example.route;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
-import org.example.config.GsonProvider;
+import org.example.cache.EntityVersions;
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.VenueDao;
 import org.example.dto.VenueDto;
 import org.example.util.ErrorMessages;
 import org.example.util.LogHelper;
 import org.example.util.Util;
-import org.jooq.DSLContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static spark.Spark.*;
 
@@ -21,11 +21,12 @@ public class VenueRoutesProvider implements RoutesProvider
 {
     private static final Logger log = LoggerFactory.getLogger(VenueRoutesProvider.class);
     private final VenueDao venueDao;
-    private final Gson gson = GsonProvider.getGson();
+    private final EntityVersions venueVersions;
 
-    public VenueRoutesProvider(DSLContext dsl)
+    public VenueRoutesProvider(VenueDao venueDao, EntityVersions venueVersions)
     {
-        this.venueDao = new VenueDao(dsl);
+        this.venueDao = venueDao;
+        this.venueVersions = venueVersions;
     }
 
     @Override
@@ -54,36 +55,63 @@ public class VenueRoutesProvider implements RoutesProvider
 
             LogHelper.logRequest(log, "GET", "/venues", name, address);
 
+            boolean streaming = Boolean.parseBoolean(request.queryParams("stream"));
+            Optional<PageRequest> page = Pagination.parse(request, log);
+
+            if (page.isEmpty())
+            {
+                return Pagination.invalidPage(response);
+            }
+
+            PageRequest pageRequest = page.get();
+
             if (areParametersValid(name, address))
             {
-                List<VenueDto> result;
+                Function<PageRequest, Page<VenueDto>> query;
 
                 if (name != null && address != null)
                 {
-                    result = venueDao.findVenueByNameAndAddress(name, address);
+                    query = batch -> venueDao.findVenueByNameAndAddress(name, address, batch);
                 }
                 else if (name != null)
                 {
-                    result = venueDao.findVenueByName(name);
+                    query = batch -> venueDao.findVenueByName(name, batch);
                 }
                 else if (address != null)
                 {
-                    result = venueDao.findVenueByAddress(address);
+                    query = batch -> venueDao.findVenueByAddress(address, batch);
                 }
                 else
                 {
-                    result = venueDao.findVenues();
+                    query = venueDao::findVenues;
+                }
+
+                String tag = venueVersions.tableTag();
+
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
+                if (streaming)
+                {
+                    ConditionalGet.tag(request, response, tag);
+                    return JsonStreaming.writeArray(response, VenueDto.class, query);
                 }
 
-                LogHelper.logListResponse(log, result.size());
+                Page<VenueDto> result = query.apply(pageRequest);
+
+                LogHelper.logListResponse(log, result.items().size());
+                Pagination.writeNextCursor(response, result);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result);
+                return DtoResponses.array(request, response, "GET", "/venues", VenueDto.class, result.items());
             }
             else
             {
                 LogHelper.logWrongParameters(log);
                 response.status(400);
-                return ErrorMessages.INVALID_PARAMETERS;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_PARAMETERS);
             }
         }));
     }
@@ -105,22 +133,35 @@ public class VenueRoutesProvider implements RoutesProvider
             {
                 LogHelper.logInvalidId(log, id);
                 response.status(400);
-                return ErrorMessages.INVALID_ID;
+                return ErrorMessages.write(response, ErrorMessages.INVALID_ID);
+            }
+
+            String tag = venueVersions.entityTag(venueId);
+
+            if (ConditionalGet.notModified(request, response, tag, false))
+            {
+                return "";
             }
 
             Optional<VenueDto> result = venueDao.findVenueById(venueId);
 
             if (result.isPresent())
             {
+                if (ConditionalGet.notModified(request, response, tag, true))
+                {
+                    return "";
+                }
+
                 LogHelper.logIdFound(log, "Venue", id);
+                ConditionalGet.tag(request, response, tag);
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "GET", "/venues/id", VenueDto.class, result.get());
             }
             else
             {
                 LogHelper.logIdNotFound(log, "Venue", id);
                 response.status(404);
-                return ErrorMessages.notFound("Venue");
+                return ErrorMessages.write(response, ErrorMessages.notFound("Venue"));
             }
         }));
     }
@@ -134,13 +175,13 @@ public class VenueRoutesProvider implements RoutesProvider
 
             try
             {
-                venueDto = gson.fromJson(request.body(), VenueDto.class);
+                venueDto = DtoRequests.read(request, VenueDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "VenueDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<VenueDto> result = venueDao.addVenue(venueDto);
@@ -149,13 +190,13 @@ public class VenueRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityAdded(log, "Venue");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "POST", "/venues", VenueDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotAdded(log, "Venue");
                 response.status(400);
-                return ErrorMessages.CANNOT_INSERT_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_INSERT_DATA);
             }
         });
     }
@@ -169,13 +210,13 @@ public class VenueRoutesProvider implements RoutesProvider
 
             try
             {
-                venueDto = gson.fromJson(request.body(), VenueDto.class);
+                venueDto = DtoRequests.read(request, VenueDto.class);
             }
             catch (JsonSyntaxException e)
             {
                 LogHelper.logWrongJson(log, "VenueDto");
                 response.status(400);
-                return ErrorMessages.JSON_PARSE_ERROR;
+                return ErrorMessages.write(response, ErrorMessages.JSON_PARSE_ERROR);
             }
 
             Optional<VenueDto> result = venueDao.modifyVenue(venueDto);
@@ -184,13 +225,13 @@ public class VenueRoutesProvider implements RoutesProvider
             {
                 LogHelper.logEntityUpdated(log, "Venue");
                 response.status(200);
-                return gson.toJson(result.get());
+                return DtoResponses.object(request, response, "PUT", "/venues", VenueDto.class, result.get());
             }
             else
             {
                 LogHelper.logEntityNotUpdated(log, "Venue");
                 response.status(400);
-                return ErrorMessages.CANNOT_UPDATE_DATA;
+                return ErrorMessages.write(response, ErrorMessages.CANNOT_UPDATE_DATA);
             }
         });
     }
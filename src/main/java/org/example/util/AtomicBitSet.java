@@ -0,0 +1,79 @@
+package org.example.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class AtomicBitSet
+{
+    private final AtomicLongArray words;
+    private final int size;
+
+    public AtomicBitSet(int size)
+    {
+        this.size = size;
+        this.words = new AtomicLongArray((size + 63) >>> 6);
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean get(int index)
+    {
+        return (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public boolean trySet(int index)
+    {
+        int wordIndex = index >>> 6;
+        long mask = 1L << index;
+
+        while (true)
+        {
+            long word = words.get(wordIndex);
+
+            if ((word & mask) != 0)
+            {
+                return false;
+            }
+
+            if (words.compareAndSet(wordIndex, word, word | mask))
+            {
+                return true;
+            }
+        }
+    }
+
+    public boolean clear(int index)
+    {
+        int wordIndex = index >>> 6;
+        long mask = 1L << index;
+
+        while (true)
+        {
+            long word = words.get(wordIndex);
+
+            if ((word & mask) == 0)
+            {
+                return false;
+            }
+
+            if (words.compareAndSet(wordIndex, word, word & ~mask))
+            {
+                return true;
+            }
+        }
+    }
+
+    public int cardinality()
+    {
+        int count = 0;
+
+        for (int i = 0; i < words.length(); ++i)
+        {
+            count += Long.bitCount(words.get(i));
+        }
+
+        return count;
+    }
+}
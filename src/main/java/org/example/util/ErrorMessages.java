@@ -2,38 +2,76 @@ package org.example.util;
 
 import com.google.gson.Gson;
 import org.example.config.GsonProvider;
+import spark.Response;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+// Bodies are encoded once at startup; Spark writes a returned byte[] to the output stream as is
 public class ErrorMessages
 {
     private static final Gson gson;
-    public static final String INVALID_ID;
-    public static final String INVALID_DATETIME;
-    public static final String INVALID_PARAMETERS;
-    public static final String JSON_PARSE_ERROR;
-    public static final String CANNOT_INSERT_DATA;
-    public static final String CANNOT_UPDATE_DATA;
+    private static final ConcurrentHashMap<String, byte[]> notFound = new ConcurrentHashMap<>();
+    public static final byte[] INVALID_ID;
+    public static final byte[] INVALID_TTL;
+    public static final byte[] INVALID_DATETIME;
+    public static final byte[] INVALID_PARAMETERS;
+    public static final byte[] JSON_PARSE_ERROR;
+    public static final byte[] CANNOT_INSERT_DATA;
+    public static final byte[] CANNOT_UPDATE_DATA;
+    public static final byte[] SEAT_TAKEN;
+    public static final byte[] INVALID_PAGE;
+    public static final byte[] INVALID_BATCH;
+    public static final byte[] BOOKING_BUSY;
+    public static final byte[] WAITING_ROOM_FULL;
+    public static final byte[] NOT_ADMITTED;
+    public static final byte[] TOO_MANY_REQUESTS;
 
     static
     {
         gson = GsonProvider.getGson();
 
-        INVALID_ID = gson.toJson(error("Invalid id format. Must be an integer"));
-        INVALID_DATETIME = gson.toJson(error("Invalid datetime format"));
-        INVALID_PARAMETERS = gson.toJson(error("Invalid combination of parameters"));
-        JSON_PARSE_ERROR = gson.toJson(error("Cannot parse JSON"));
-        CANNOT_INSERT_DATA = gson.toJson(error("Cannot insert provided data"));
-        CANNOT_UPDATE_DATA = gson.toJson(error("Cannot update provided data"));
+        INVALID_ID = error("Invalid id format. Must be an integer");
+        INVALID_TTL = error("Invalid ttlSeconds format. Must be an integer");
+        INVALID_DATETIME = error("Invalid datetime format");
+        INVALID_PARAMETERS = error("Invalid combination of parameters");
+        JSON_PARSE_ERROR = error("Cannot parse JSON");
+        CANNOT_INSERT_DATA = error("Cannot insert provided data");
+        CANNOT_UPDATE_DATA = error("Cannot update provided data");
+        SEAT_TAKEN = error("Seat is already taken");
+        INVALID_PAGE = error("Invalid page limit or cursor");
+        INVALID_BATCH = error("Batch must be a non-empty array within the size limit");
+        BOOKING_BUSY = error("Too many bookings in progress for this event, retry later");
+        WAITING_ROOM_FULL = error("Waiting room is full, retry later");
+        NOT_ADMITTED = error("Queue token missing or not admitted for this event");
+        TOO_MANY_REQUESTS = error("Too many requests, retry later");
+
+        for (String entity : List.of("User", "Venue", "Event", "Seat", "Ticket", "Hold", "Queue token"))
+        {
+            notFound.put(entity, notFoundBody(entity));
+        }
+    }
+
+    private static byte[] error(String message)
+    {
+        return gson.toJson(Map.of("error", message)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] notFoundBody(String entity)
+    {
+        return error(entity + " not found");
     }
 
-    private static Map<String, String> error(String message)
+    public static byte[] notFound(String entity)
     {
-        return Map.of("error", message);
+        return notFound.computeIfAbsent(entity, ErrorMessages::notFoundBody);
     }
 
-    public static String notFound(String entity)
+    public static byte[] write(Response response, byte[] body)
     {
-        return gson.toJson(error(entity + " not found"));
+        response.raw().setContentLength(body.length);
+        return body;
     }
 }
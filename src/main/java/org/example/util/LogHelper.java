@@ -2,36 +2,115 @@ package org.example.util;
 
 import org.slf4j.Logger;
 
+// Every method checks the level first, so a disabled line returns before any argument is boxed or copied into an array
 public class LogHelper
 {
+    private static final LogSampler requestSampler = LogSampler.fromConfig();
+
     public static void logListResponse(Logger log, int size)
     {
-        log.info("Responding with {} rows", size);
+        if (log.isInfoEnabled())
+        {
+            log.info("Responding with {} rows", size);
+        }
+    }
+
+    public static void logStreamAborted(Logger log, int written, Exception e)
+    {
+        if (log.isErrorEnabled())
+        {
+            log.error("Aborting streamed response after {} rows", written, e);
+        }
     }
 
     public static void logWrongParameters(Logger log)
     {
-        log.error("Wrong combination of parameters");
+        if (log.isErrorEnabled())
+        {
+            log.error("Wrong combination of parameters");
+        }
+    }
+
+    public static void logRequest(Logger log, String method, String path)
+    {
+        if (requestEnabled(log, method, path))
+        {
+            log.info("Received {} request for {} with parameters: []", method, path);
+        }
+    }
+
+    public static void logRequest(Logger log, String method, String path, Object parameter)
+    {
+        if (requestEnabled(log, method, path))
+        {
+            log.info("Received {} request for {} with parameters: [{}]", method, path, parameter);
+        }
+    }
+
+    public static void logRequest(Logger log, String method, String path, Object first, Object second)
+    {
+        if (requestEnabled(log, method, path))
+        {
+            log.info("Received {} request for {} with parameters: [{}, {}]", method, path, first, second);
+        }
     }
 
-    public static void logRequest(Logger log, String method, String path, Object...parameters)
+    public static void logRequest(Logger log, String method, String path, Object first, Object second, Object third)
     {
-        log.info("Received {} request for {} with parameters: {}", method, path, parameters);
+        if (requestEnabled(log, method, path))
+        {
+            log.info("Received {} request for {} with parameters: [{}, {}, {}]", method, path, first, second, third);
+        }
+    }
+
+    public static void logRequest(Logger log, String method, String path, Object first, Object second, Object third,
+                                  Object fourth)
+    {
+        if (requestEnabled(log, method, path))
+        {
+            log.info("Received {} request for {} with parameters: [{}, {}, {}, {}]", method, path, first, second, third,
+                    fourth);
+        }
     }
 
     public static void logInvalidId(Logger log, String id)
     {
-        log.error("Invalid id format: {}", id);
+        if (log.isErrorEnabled())
+        {
+            log.error("Invalid id format: {}", id);
+        }
+    }
+
+    public static void logInvalidTtl(Logger log, String ttl)
+    {
+        if (log.isErrorEnabled())
+        {
+            log.error("Invalid ttlSeconds format: {}", ttl);
+        }
     }
 
     public static void logInvalidDates(Logger log, String startDatetime, String endDateTime)
     {
-        log.error("Invalid datetime format: {} and/or {}", startDatetime, endDateTime);
+        if (log.isErrorEnabled())
+        {
+            log.error("Invalid datetime format: {} and/or {}", startDatetime, endDateTime);
+        }
+    }
+
+    public static void logInvalidPage(Logger log, String limit, String cursor)
+    {
+        if (log.isErrorEnabled())
+        {
+            log.error("Invalid page limit: {} and/or cursor: {}", limit, cursor);
+        }
     }
 
     public static void logWrongJson(Logger log, String dto)
     {
-        log.error("Wrong structure of {} JSON", dto);
+        if (log.isErrorEnabled())
+        {
+            log.error("Wrong structure of {} JSON", dto);
+        }
     }
 
     public static void logIdFound(Logger log, String entity, String id)
@@ -56,31 +135,118 @@ public class LogHelper
 
     public static void logEntityAdded(Logger log, String entity)
     {
-        log.info("{} successfully added", entity);
+        if (log.isInfoEnabled())
+        {
+            log.info("{} successfully added", entity);
+        }
     }
 
     public static void logEntityNotAdded(Logger log, String entity)
     {
-        log.error("{} cannot be added", entity);
+        if (log.isErrorEnabled())
+        {
+            log.error("{} cannot be added", entity);
+        }
     }
 
     public static void logEntityUpdated(Logger log, String entity)
     {
-        log.info("{} successfully updated", entity);
+        if (log.isInfoEnabled())
+        {
+            log.info("{} successfully updated", entity);
+        }
     }
 
     public static void logEntityNotUpdated(Logger log, String entity)
     {
-        log.error("{} cannot be updated", entity);
+        if (log.isErrorEnabled())
+        {
+            log.error("{} cannot be updated", entity);
+        }
+    }
+
+    public static void logSeatTaken(Logger log, int eventId, int seatId)
+    {
+        if (log.isInfoEnabled())
+        {
+            log.info("Seat {} of event {} is already taken", seatId, eventId);
+        }
+    }
+
+    public static void logBookingBusy(Logger log, int eventId)
+    {
+        if (log.isWarnEnabled())
+        {
+            log.warn("Booking shard of event {} is saturated", eventId);
+        }
+    }
+
+    public static void logWaitingRoomFull(Logger log, int eventId)
+    {
+        if (log.isWarnEnabled())
+        {
+            log.warn("Waiting room is full, event {} cannot be queued", eventId);
+        }
+    }
+
+    public static void logNotAdmitted(Logger log, int eventId)
+    {
+        if (log.isInfoEnabled())
+        {
+            log.info("Booking for event {} without an admitted queue token", eventId);
+        }
+    }
+
+    public static void logRateLimited(Logger log, String method, String route)
+    {
+        if (log.isDebugEnabled())
+        {
+            log.debug("Rate limit exceeded for {} {}", method, route);
+        }
+    }
+
+    public static void logInvalidBatch(Logger log, int size)
+    {
+        if (log.isErrorEnabled())
+        {
+            log.error("Invalid batch of {} items", size);
+        }
+    }
+
+    public static void logBatchProcessed(Logger log, String entity, long succeeded, int size)
+    {
+        if (log.isInfoEnabled())
+        {
+            log.info("{} batch processed: {} of {} succeeded", entity, succeeded, size);
+        }
+    }
+
+    public static void logSlowQuery(Logger log, long millis, long rows, String sql, Object bindTypes)
+    {
+        if (log.isWarnEnabled())
+        {
+            log.warn("Slow query ({} ms, {} rows): {} with bind values of types: {}", millis, rows, sql, bindTypes);
+        }
     }
 
     private static void found(Logger log, String entity, String field, String value)
     {
-        log.info("{} with {}: {} found", entity, field, value);
+        if (log.isInfoEnabled())
+        {
+            log.info("{} with {}: {} found", entity, field, value);
+        }
     }
 
     private static void notFound(Logger log, String entity, String field, String value)
     {
-        log.info("{} with {}: {} not found", entity, field, value);
+        if (log.isInfoEnabled())
+        {
+            log.info("{} with {}: {} not found", entity, field, value);
+        }
+    }
+
+    private static boolean requestEnabled(Logger log, String method, String path)
+    {
+        return log.isInfoEnabled() && requestSampler.sample(method, path);
     }
 }
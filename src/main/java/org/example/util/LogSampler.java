@@ -0,0 +1,56 @@
+package org.example.util;
+
+import org.example.config.Config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntBiFunction;
+
+// Keeps one in N lines per route; rates are looked up once per route and the check itself neither locks nor allocates
+public class LogSampler
+{
+    private final ToIntBiFunction<String, String> rateOf;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Integer>> rates = new ConcurrentHashMap<>();
+
+    public LogSampler(ToIntBiFunction<String, String> rateOf)
+    {
+        this.rateOf = rateOf;
+    }
+
+    public static LogSampler fromConfig()
+    {
+        return new LogSampler((method, path) -> Config.getInt("log.sampling." + method + "." + path,
+                Config.getInt("log.sampling.default", 1)));
+    }
+
+    public boolean sample(String method, String path)
+    {
+        int rate = rateOf(method, path);
+
+        if (rate <= 0)
+        {
+            return false;
+        }
+
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    private int rateOf(String method, String path)
+    {
+        ConcurrentHashMap<String, Integer> byPath = rates.get(method);
+
+        if (byPath == null)
+        {
+            byPath = rates.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+
+        Integer rate = byPath.get(path);
+
+        if (rate == null)
+        {
+            rate = byPath.computeIfAbsent(path, key -> rateOf.applyAsInt(method, key));
+        }
+
+        return rate;
+    }
+}
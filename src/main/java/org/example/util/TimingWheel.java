@@ -0,0 +1,214 @@
+package org.example.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class TimingWheel
+{
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final long tickNanos;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] levelUnits;
+    private final Entry[][] slots;
+    private final ConcurrentLinkedQueue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running;
+
+    // Only touched by the worker thread
+    private long currentTick;
+
+    public TimingWheel(String name, long tick, TimeUnit unit, int wheelSize, int levels)
+    {
+        this.tickNanos = unit.toNanos(tick);
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.levelUnits = new long[levels + 1];
+        this.slots = new Entry[levels][wheelSize];
+        this.startNanos = System.nanoTime();
+
+        levelUnits[0] = 1;
+
+        for (int level = 1; level <= levels; ++level)
+        {
+            levelUnits[level] = levelUnits[level - 1] * wheelSize;
+        }
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    public void start()
+    {
+        running = true;
+        worker.start();
+    }
+
+    public void stop()
+    {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit)
+    {
+        long deadlineNanos = System.nanoTime() - startNanos + unit.toNanos(delay);
+        long deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos;
+
+        Entry entry = new Entry(task, deadlineTick);
+        scheduled.add(entry);
+
+        return entry;
+    }
+
+    private void run()
+    {
+        while (running)
+        {
+            long elapsedTicks = (System.nanoTime() - startNanos) / tickNanos;
+
+            while (currentTick < elapsedTicks)
+            {
+                drainScheduled();
+                advance();
+            }
+
+            long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+            LockSupport.parkNanos(nextTickNanos - System.nanoTime());
+        }
+    }
+
+    private void drainScheduled()
+    {
+        Entry entry;
+
+        while ((entry = scheduled.poll()) != null)
+        {
+            place(entry);
+        }
+    }
+
+    private void advance()
+    {
+        long tick = ++currentTick;
+
+        for (int level = levels - 1; level >= 1; --level)
+        {
+            if (tick % levelUnits[level] == 0)
+            {
+                int slot = (int) ((tick / levelUnits[level]) % wheelSize);
+                Entry entry = slots[level][slot];
+                slots[level][slot] = null;
+
+                while (entry != null)
+                {
+                    Entry next = entry.next;
+                    entry.next = null;
+                    place(entry);
+                    entry = next;
+                }
+            }
+        }
+
+        int slot = (int) (tick % wheelSize);
+        Entry entry = slots[0][slot];
+        slots[0][slot] = null;
+
+        while (entry != null)
+        {
+            Entry next = entry.next;
+            entry.next = null;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void place(Entry entry)
+    {
+        if (entry.state.get() != PENDING)
+        {
+            return;
+        }
+
+        long delta = entry.deadlineTick - currentTick;
+
+        if (delta <= 0)
+        {
+            expire(entry);
+            return;
+        }
+
+        int level = 0;
+
+        while (level < levels - 1 && delta >= levelUnits[level + 1])
+        {
+            ++level;
+        }
+
+        // Entries beyond the top level's span park in its furthest slot and are re-placed on cascade
+        long slotTick = Math.min(entry.deadlineTick, currentTick + levelUnits[levels] - 1);
+        int slot = (int) ((slotTick / levelUnits[level]) % wheelSize);
+
+        entry.next = slots[level][slot];
+        slots[level][slot] = entry;
+    }
+
+    private void expire(Entry entry)
+    {
+        if (entry.state.compareAndSet(PENDING, EXPIRED))
+        {
+            try
+            {
+                entry.task.run();
+            }
+            catch (RuntimeException e)
+            {
+                log.error("Timer task failed", e);
+            }
+        }
+    }
+
+    public interface Timeout
+    {
+        boolean cancel();
+
+        boolean isExpired();
+    }
+
+    private static final class Entry implements Timeout
+    {
+        private final Runnable task;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private Entry next;
+
+        private Entry(Runnable task, long deadlineTick)
+        {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public boolean cancel()
+        {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        @Override
+        public boolean isExpired()
+        {
+            return state.get() == EXPIRED;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+// Token buckets in GCRA form: a bucket is one AtomicLong holding the time at which it is full again, so taking a token
+// is a single CAS, and a bucket whose time has passed holds no state and can be dropped. Keys are spread over stripes
+// that are swept independently, so eviction never scans the whole map on one request.
+public class TokenBuckets
+{
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final AtomicLongArray nextSweep;
+    private final long sweepIntervalNanos;
+    private final LongSupplier clock;
+
+    @SuppressWarnings("unchecked")
+    public TokenBuckets(int stripeCount, long sweepInterval, TimeUnit unit, LongSupplier clock)
+    {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+
+        this.stripes = new ConcurrentHashMap[size];
+        this.nextSweep = new AtomicLongArray(size);
+        this.sweepIntervalNanos = unit.toNanos(sweepInterval);
+        this.clock = clock;
+
+        long now = clock.getAsLong();
+
+        for (int i = 0; i < size; ++i)
+        {
+            stripes[i] = new ConcurrentHashMap<>();
+            nextSweep.set(i, now + sweepIntervalNanos);
+        }
+    }
+
+    // Returns 0 when a token was taken, otherwise the nanoseconds until one is available
+    public long acquire(String key, double ratePerSecond, int burst)
+    {
+        long now = clock.getAsLong();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long tolerance = interval * (Math.max(1, burst) - 1);
+        int index = stripeOf(key);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripes[index];
+
+        sweepIfDue(index, now);
+
+        AtomicLong bucket = stripe.get(key);
+
+        if (bucket == null)
+        {
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(EMPTY));
+        }
+
+        while (true)
+        {
+            long stored = bucket.get();
+            long fullAt = Math.max(stored, now);
+            long wait = fullAt - tolerance - now;
+
+            if (wait > 0)
+            {
+                return wait;
+            }
+
+            if (bucket.compareAndSet(stored, fullAt + interval))
+            {
+                return 0;
+            }
+        }
+    }
+
+    public long size()
+    {
+        long size = 0;
+
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes)
+        {
+            size += stripe.mappingCount();
+        }
+
+        return size;
+    }
+
+    // A concurrent acquire on a bucket being dropped can lose its token, which only ever favours the client
+    private void sweepIfDue(int index, long now)
+    {
+        long due = nextSweep.get(index);
+
+        if (now - due >= 0 && nextSweep.compareAndSet(index, due, now + sweepIntervalNanos))
+        {
+            stripes[index].values().removeIf(bucket -> bucket.get() <= now);
+        }
+    }
+
+    private int stripeOf(String key)
+    {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,63 @@
+package booking;
+
+import org.example.booking.AvailabilityCache;
+import org.example.booking.EventInventory;
+import org.example.booking.SeatLayout;
+import org.example.dto.AvailabilityDto;
+import org.example.dto.SeatDto;
+import org.example.dto.SeatRowAvailabilityDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AvailabilityCacheTest
+{
+    private EventInventory testInventory()
+    {
+        List<SeatDto> seats = List.of(
+                SeatDto.create(10, 1, "B", 2),
+                SeatDto.create(11, 1, "A", 1),
+                SeatDto.create(12, 1, "A", 2),
+                SeatDto.create(13, 1, "A", 3),
+                SeatDto.create(14, 1, "A", 4),
+                SeatDto.create(15, 1, "A", 6),
+                SeatDto.create(16, 1, "B", 1)
+        );
+
+        return new EventInventory(1, 1, SeatLayout.of(seats));
+    }
+
+    @Test
+    public void testAllSeatsFree()
+    {
+        AvailabilityDto result = AvailabilityCache.toDto(testInventory());
+
+        assertEquals(7, result.seatCount());
+        assertEquals(7, result.availableCount());
+        assertEquals(2, result.rows().size());
+
+        SeatRowAvailabilityDto rowA = result.rows().get(0);
+
+        assertEquals("A", rowA.seatRow());
+        assertArrayEquals(new int[] {1, 4, 6, 6}, rowA.freeRuns());
+        assertArrayEquals(new int[] {1, 2}, result.rows().get(1).freeRuns());
+    }
+
+    @Test
+    public void testTakenSeatsSplitRuns()
+    {
+        EventInventory inventory = testInventory();
+
+        inventory.claim(12);
+        inventory.claim(16);
+        inventory.claim(10);
+
+        AvailabilityDto result = AvailabilityCache.toDto(inventory);
+
+        assertEquals(4, result.availableCount());
+        assertArrayEquals(new int[] {1, 1, 3, 4, 6, 6}, result.rows().get(0).freeRuns());
+        assertArrayEquals(new int[] {}, result.rows().get(1).freeRuns());
+    }
+}
@@ -0,0 +1,308 @@
+package booking;
+
+import org.example.booking.BookingResult;
+import org.example.booking.BookingService;
+import org.example.booking.BookingShards;
+import org.example.booking.ClaimResult;
+import org.example.booking.SeatInventory;
+import org.example.dao.EventDao;
+import org.example.dao.SeatDao;
+import org.example.dao.TicketDao;
+import org.example.dto.EventDto;
+import org.example.dto.SeatDto;
+import org.example.dto.TicketDto;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingServiceTest
+{
+    private static final int EVENT_ID = 1;
+    private static final int OTHER_EVENT_ID = 2;
+    private static final int FAILING_USER_ID = 99;
+
+    private final DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+    private FakeTicketDao ticketDao;
+    private SeatInventory seatInventory;
+    private BookingShards shards;
+    private BookingService service;
+
+    @BeforeEach
+    public void setUp()
+    {
+        ticketDao = new FakeTicketDao(dsl);
+        seatInventory = new SeatInventory(new FakeEventDao(dsl), new FakeSeatDao(dsl), ticketDao);
+        shards = new BookingShards(1, 100);
+        service = new BookingService(ticketDao, seatInventory, shards);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        shards.shutdown();
+    }
+
+    private TicketDto ticket(int seatId, int userId)
+    {
+        return TicketDto.create(0, EVENT_ID, seatId, userId, LocalDateTime.now());
+    }
+
+    private List<BookingResult.Status> statuses(List<BookingResult> results)
+    {
+        return results.stream()
+                .map(BookingResult::status)
+                .toList();
+    }
+
+    @Test
+    public void testNonAtomicBatchFailsOnlyRejectedRows()
+    {
+        List<BookingResult> results = service.bookBatch(List.of(
+                ticket(1, 1),
+                ticket(2, FAILING_USER_ID),
+                ticket(3, 1),
+                ticket(1, 2)
+        ), false);
+
+        assertEquals(List.of(BookingResult.Status.BOOKED, BookingResult.Status.FAILED, BookingResult.Status.BOOKED,
+                BookingResult.Status.INVALID), statuses(results));
+        assertEquals(1, results.get(0).ticket().get().seatId());
+        assertEquals(3, results.get(2).ticket().get().seatId());
+        assertEquals(0, ticketDao.batchInserts);
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 2));
+        assertEquals(ClaimResult.TAKEN, seatInventory.claim(EVENT_ID, 1));
+        assertEquals(ClaimResult.TAKEN, seatInventory.claim(EVENT_ID, 3));
+    }
+
+    @Test
+    public void testNonAtomicBatchWithTakenSeat()
+    {
+        seatInventory.claim(EVENT_ID, 2);
+
+        List<BookingResult> results = service.bookBatch(List.of(ticket(1, 1), ticket(2, 1), ticket(42, 1)), false);
+
+        assertEquals(List.of(BookingResult.Status.BOOKED, BookingResult.Status.SEAT_TAKEN, BookingResult.Status.INVALID),
+                statuses(results));
+        assertEquals(1, ticketDao.added.size());
+    }
+
+    @Test
+    public void testAtomicBatchBooksEveryItem()
+    {
+        List<BookingResult> results = service.bookBatch(List.of(ticket(1, 1), ticket(2, 1), ticket(3, 1)), true);
+
+        assertEquals(List.of(BookingResult.Status.BOOKED, BookingResult.Status.BOOKED, BookingResult.Status.BOOKED),
+                statuses(results));
+        assertEquals(1, ticketDao.batchInserts);
+        assertEquals(3, ticketDao.added.size());
+    }
+
+    @Test
+    public void testAtomicBatchAbortsOnClaimFailure()
+    {
+        seatInventory.claim(EVENT_ID, 2);
+
+        List<BookingResult> results = service.bookBatch(List.of(ticket(1, 1), ticket(2, 1), ticket(3, 1)), true);
+
+        assertEquals(List.of(BookingResult.Status.ABORTED, BookingResult.Status.SEAT_TAKEN, BookingResult.Status.ABORTED),
+                statuses(results));
+        assertEquals(0, ticketDao.batchInserts);
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 1));
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 3));
+    }
+
+    @Test
+    public void testAtomicBatchAbortsOnInsertFailure()
+    {
+        List<BookingResult> results = service.bookBatch(List.of(ticket(1, 1), ticket(2, FAILING_USER_ID), ticket(3, 1)), true);
+
+        assertEquals(List.of(BookingResult.Status.ABORTED, BookingResult.Status.ABORTED, BookingResult.Status.ABORTED),
+                statuses(results));
+        assertTrue(ticketDao.added.isEmpty());
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 1));
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 2));
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 3));
+    }
+
+    // Both requests start from event 1, so they share its shard even though they move the ticket to different events
+    @Test
+    public void testConcurrentMovesOfOneTicketAreSerialized() throws Exception
+    {
+        BookingShards twoShards = new BookingShards(2, 100);
+        BookingService twoShardService = new BookingService(ticketDao, seatInventory, twoShards);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        LocalDateTime now = LocalDateTime.now();
+
+        ticketDao.tickets.put(1, TicketDto.create(1, EVENT_ID, 1, 1, now));
+        seatInventory.claim(EVENT_ID, 1);
+        ticketDao.modifyStarted = new CountDownLatch(1);
+        ticketDao.modifyGate = new CountDownLatch(1);
+
+        Future<BookingResult> first = callers.submit(() -> twoShardService.modify(TicketDto.create(1, OTHER_EVENT_ID, 5, 1, now)));
+
+        assertTrue(ticketDao.modifyStarted.await(5, TimeUnit.SECONDS));
+
+        Future<BookingResult> second = callers.submit(() -> twoShardService.modify(TicketDto.create(1, EVENT_ID, 6, 1, now)));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while ((int) ((List<?>) twoShards.snapshot().get("queued")).get(Math.floorMod(EVENT_ID, 2)) == 0)
+        {
+            assertTrue(System.nanoTime() < deadline, "second move was not queued behind the first");
+            Thread.onSpinWait();
+        }
+
+        ticketDao.modifyGate.countDown();
+
+        assertEquals(BookingResult.Status.BOOKED, first.get(5, TimeUnit.SECONDS).status());
+        assertEquals(BookingResult.Status.BOOKED, second.get(5, TimeUnit.SECONDS).status());
+        assertEquals(EVENT_ID, ticketDao.tickets.get(1).eventId());
+        assertEquals(6, ticketDao.tickets.get(1).seatId());
+        assertEquals(ClaimResult.TAKEN, seatInventory.claim(EVENT_ID, 6));
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(OTHER_EVENT_ID, 5));
+        assertEquals(ClaimResult.CLAIMED, seatInventory.claim(EVENT_ID, 1));
+
+        callers.shutdown();
+        twoShards.shutdown();
+    }
+
+    private static class FakeEventDao extends EventDao
+    {
+        FakeEventDao(DSLContext dsl)
+        {
+            super(dsl);
+        }
+
+        @Override
+        public Optional<EventDto> findEventById(int eventId)
+        {
+            return eventId == EVENT_ID || eventId == OTHER_EVENT_ID
+                    ? Optional.of(EventDto.create(eventId, 1, "Event", LocalDateTime.now(), LocalDateTime.now().plusHours(2)))
+                    : Optional.empty();
+        }
+    }
+
+    private static class FakeSeatDao extends SeatDao
+    {
+        FakeSeatDao(DSLContext dsl)
+        {
+            super(dsl);
+        }
+
+        @Override
+        public List<SeatDto> findSeatsByVenue(int venueId)
+        {
+            return IntStream.rangeClosed(1, 10)
+                    .mapToObj(i -> SeatDto.create(i, venueId, "A", i))
+                    .toList();
+        }
+    }
+
+    // Rows of the failing user are rejected, as a constraint violation would be; the first modification can be held
+    // at a gate to interleave requests
+    private static class FakeTicketDao extends TicketDao
+    {
+        private final List<TicketDto> added = new ArrayList<>();
+        private final Map<Integer, TicketDto> tickets = new HashMap<>();
+        private int batchInserts;
+        private volatile CountDownLatch modifyStarted;
+        private volatile CountDownLatch modifyGate;
+
+        FakeTicketDao(DSLContext dsl)
+        {
+            super(dsl);
+        }
+
+        @Override
+        public List<TicketDto> findTicketsByEventId(int eventId)
+        {
+            return List.of();
+        }
+
+        @Override
+        public Optional<List<TicketDto>> addTickets(List<TicketDto> ticketDtos)
+        {
+            ++batchInserts;
+
+            if (ticketDtos.stream().anyMatch(ticketDto -> ticketDto.userId() == FAILING_USER_ID))
+            {
+                return Optional.empty();
+            }
+
+            return Optional.of(ticketDtos.stream()
+                    .map(this::insert)
+                    .toList());
+        }
+
+        @Override
+        public List<Optional<TicketDto>> addTicketsIndividually(List<TicketDto> ticketDtos)
+        {
+            return ticketDtos.stream()
+                    .map(ticketDto -> ticketDto.userId() == FAILING_USER_ID ? Optional.<TicketDto>empty() : Optional.of(insert(ticketDto)))
+                    .toList();
+        }
+
+        @Override
+        public synchronized Optional<TicketDto> findTicketById(int ticketId)
+        {
+            return Optional.ofNullable(tickets.get(ticketId));
+        }
+
+        @Override
+        public Optional<TicketDto> modifyTicket(TicketDto ticketDto)
+        {
+            CountDownLatch gate = modifyGate;
+
+            if (gate != null)
+            {
+                modifyGate = null;
+                modifyStarted.countDown();
+                await(gate);
+            }
+
+            synchronized (this)
+            {
+                tickets.put(ticketDto.ticketId(), ticketDto);
+            }
+
+            return Optional.of(ticketDto);
+        }
+
+        private static void await(CountDownLatch latch)
+        {
+            try
+            {
+                latch.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private TicketDto insert(TicketDto ticketDto)
+        {
+            TicketDto ticket = TicketDto.create(added.size() + 1, ticketDto.eventId(), ticketDto.seatId(), ticketDto.userId(),
+                    ticketDto.bookedAt());
+            added.add(ticket);
+            return ticket;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package booking;
+
+import org.example.booking.BookingShards;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookingShardsTest
+{
+    @Test
+    public void testSameEventRunsInSubmissionOrderOnOneThread()
+    {
+        BookingShards shards = new BookingShards(4, 100);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> order = new ArrayList<>();
+
+        for (int i = 0; i < 50; ++i)
+        {
+            int value = i;
+
+            shards.execute(7, () -> {
+                threads.add(Thread.currentThread().getName());
+                order.add(value);
+                return value;
+            });
+        }
+
+        assertEquals(1, threads.stream().distinct().count());
+        assertEquals(50, order.size());
+
+        for (int i = 0; i < 50; ++i)
+        {
+            assertEquals(i, order.get(i));
+        }
+
+        shards.shutdown();
+    }
+
+    @Test
+    public void testFullQueueIsRejected() throws Exception
+    {
+        BookingShards shards = new BookingShards(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Integer>> running = callers.submit(() -> shards.execute(1, () -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Optional<Integer>> queued = callers.submit(() -> shards.execute(1, () -> 2));
+
+        while ((int) ((List<?>) shards.snapshot().get("queued")).get(0) == 0)
+        {
+            Thread.onSpinWait();
+        }
+
+        assertEquals(Optional.empty(), shards.execute(1, () -> 3));
+        assertEquals(1L, shards.snapshot().get("rejected"));
+
+        release.countDown();
+
+        assertEquals(Optional.of(1), running.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(2), queued.get(5, TimeUnit.SECONDS));
+
+        callers.shutdown();
+        shards.shutdown();
+    }
+
+    @Test
+    public void testExceptionIsRethrownToCaller()
+    {
+        BookingShards shards = new BookingShards(2, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> shards.execute(3, () -> {
+            throw new IllegalArgumentException("broken");
+        }));
+        assertEquals(Optional.of(5), shards.execute(3, () -> 5));
+
+        shards.shutdown();
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testAwaitTerminationRunsQueuedWork() throws Exception
+    {
+        BookingShards shards = new BookingShards(2, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        Future<Optional<Integer>> running = callers.submit(() -> shards.execute(1, () -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Optional<Integer>> queued = callers.submit(() -> shards.execute(1, () -> 2));
+
+        while ((int) ((List<?>) shards.snapshot().get("queued")).get(1) == 0)
+        {
+            Thread.onSpinWait();
+        }
+
+        shards.shutdown();
+
+        assertFalse(shards.awaitTermination(10, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertTrue(shards.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(1), running.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(2), queued.get(5, TimeUnit.SECONDS));
+
+        callers.shutdown();
+    }
+}
@@ -0,0 +1,141 @@
+package booking;
+
+import org.example.booking.ClaimResult;
+import org.example.booking.EventInventory;
+import org.example.booking.SeatLayout;
+import org.example.dto.SeatDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventInventoryTest
+{
+    private EventInventory testInventory()
+    {
+        List<SeatDto> seats = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> SeatDto.create(i * 3, 1, "R" + (i % 10), i))
+                .toList();
+
+        return new EventInventory(1, 1, SeatLayout.of(seats));
+    }
+
+    @Test
+    public void testClaimFreeSeat()
+    {
+        EventInventory inventory = testInventory();
+
+        assertEquals(ClaimResult.CLAIMED, inventory.claim(3));
+        assertTrue(inventory.isTaken(3));
+        assertEquals(1, inventory.takenCount());
+        assertEquals(1, inventory.version());
+    }
+
+    @Test
+    public void testClaimTakenSeat()
+    {
+        EventInventory inventory = testInventory();
+
+        inventory.claim(600);
+
+        assertEquals(ClaimResult.TAKEN, inventory.claim(600));
+        assertEquals(1, inventory.takenCount());
+    }
+
+    @Test
+    public void testClaimUnknownSeat()
+    {
+        EventInventory inventory = testInventory();
+
+        assertEquals(ClaimResult.UNKNOWN_SEAT, inventory.claim(4));
+        assertEquals(ClaimResult.UNKNOWN_SEAT, inventory.claim(601));
+        assertEquals(0, inventory.takenCount());
+    }
+
+    @Test
+    public void testReleaseSeat()
+    {
+        EventInventory inventory = testInventory();
+
+        inventory.claim(300);
+
+        assertTrue(inventory.release(300));
+        assertFalse(inventory.isTaken(300));
+        assertFalse(inventory.release(300));
+        assertEquals(ClaimResult.CLAIMED, inventory.claim(300));
+    }
+
+    @Test
+    public void testConcurrentClaimsHaveSingleWinner() throws Exception
+    {
+        EventInventory inventory = testInventory();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; ++i)
+        {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int won = 0;
+
+                for (int seat = 1; seat <= 200; ++seat)
+                {
+                    if (inventory.claim(seat * 3) == ClaimResult.CLAIMED)
+                    {
+                        ++won;
+                    }
+                }
+
+                return won;
+            }));
+        }
+
+        start.countDown();
+
+        int totalWon = 0;
+
+        for (Future<Integer> future : futures)
+        {
+            totalWon += future.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(200, totalWon);
+        assertEquals(200, inventory.takenCount());
+    }
+
+    @Test
+    public void testRelayoutKeepsTakenSeats()
+    {
+        EventInventory inventory = testInventory();
+
+        inventory.claim(3);
+        inventory.claim(6);
+        inventory.claim(9);
+
+        List<SeatDto> seats = new ArrayList<>(IntStream.rangeClosed(2, 200)
+                .mapToObj(i -> SeatDto.create(i * 3, 1, "R" + (i % 10), i))
+                .toList());
+        seats.add(SeatDto.create(1, 1, "R0", 0));
+
+        long version = inventory.version();
+        inventory.relayout(SeatLayout.of(seats));
+
+        assertEquals(ClaimResult.UNKNOWN_SEAT, inventory.claim(3));
+        assertEquals(ClaimResult.TAKEN, inventory.claim(6));
+        assertEquals(ClaimResult.TAKEN, inventory.claim(9));
+        assertEquals(ClaimResult.CLAIMED, inventory.claim(1));
+        assertEquals(3, inventory.takenCount());
+        assertTrue(inventory.version() > version);
+    }
+}
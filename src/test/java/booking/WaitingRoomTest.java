@@ -0,0 +1,212 @@
+package booking;
+
+import org.example.booking.WaitingRoom;
+import org.example.dto.QueueTokenDto;
+import org.example.util.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WaitingRoomTest
+{
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TimingWheel timingWheel = new TimingWheel("test-queue", 100, TimeUnit.MILLISECONDS, 8, 3);
+
+    private WaitingRoom waitingRoom(long maxTokens)
+    {
+        return new WaitingRoom(eventId -> eventId == 1 ? 2.0 : 0.0, timingWheel, 3600, 60, maxTokens, 3, clock::get);
+    }
+
+    @Test
+    public void testAdmitsAtConfiguredRate()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+        List<QueueTokenDto> tokens = new ArrayList<>();
+
+        for (int i = 0; i < 6; ++i)
+        {
+            tokens.add(waitingRoom.enter(1).orElseThrow());
+        }
+
+        assertTrue(tokens.get(0).admitted());
+        assertTrue(tokens.get(1).admitted());
+        assertFalse(tokens.get(2).admitted());
+        assertEquals(1, tokens.get(2).position());
+        assertEquals(4, tokens.get(5).position());
+        assertEquals(2, tokens.get(5).estimatedWaitSeconds());
+
+        clock.addAndGet(SECOND);
+
+        assertTrue(waitingRoom.status(tokens.get(3).token()).orElseThrow().admitted());
+        assertFalse(waitingRoom.status(tokens.get(4).token()).orElseThrow().admitted());
+        assertEquals(2, waitingRoom.status(tokens.get(5).token()).orElseThrow().position());
+    }
+
+    @Test
+    public void testIdleQueueDoesNotSaveUpAdmissions()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+
+        waitingRoom.enter(1);
+        clock.addAndGet(3600 * SECOND);
+
+        List<QueueTokenDto> tokens = new ArrayList<>();
+
+        for (int i = 0; i < 4; ++i)
+        {
+            tokens.add(waitingRoom.enter(1).orElseThrow());
+        }
+
+        assertTrue(tokens.get(1).admitted());
+        assertFalse(tokens.get(2).admitted());
+    }
+
+    @Test
+    public void testAdmitsOnlyAdmittedTokenOfSameEvent()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+        QueueTokenDto first = waitingRoom.enter(1).orElseThrow();
+        waitingRoom.enter(1);
+        QueueTokenDto waiting = waitingRoom.enter(1).orElseThrow();
+
+        assertTrue(waitingRoom.admits(first.token(), 1));
+        assertFalse(waitingRoom.admits(waiting.token(), 1));
+        assertFalse(waitingRoom.admits(null, 1));
+        assertFalse(waitingRoom.admits("unknown", 1));
+
+        QueueTokenDto otherEvent = waitingRoom.enter(2).orElseThrow();
+
+        assertTrue(otherEvent.admitted());
+        assertFalse(waitingRoom.admits(otherEvent.token(), 1));
+        assertTrue(waitingRoom.admits(null, 2));
+    }
+
+    @Test
+    public void testAdmissionExpires()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+        QueueTokenDto token = waitingRoom.enter(1).orElseThrow();
+
+        clock.addAndGet(59 * SECOND);
+        assertTrue(waitingRoom.admits(token.token(), 1));
+
+        clock.addAndGet(2 * SECOND);
+        assertFalse(waitingRoom.admits(token.token(), 1));
+    }
+
+    @Test
+    public void testFullRoomRejectsNewTokens()
+    {
+        WaitingRoom waitingRoom = waitingRoom(2);
+
+        assertTrue(waitingRoom.enter(1).isPresent());
+        assertTrue(waitingRoom.enter(1).isPresent());
+        assertTrue(waitingRoom.enter(1).isEmpty());
+    }
+
+    @Test
+    public void testAdmittedTokenIsUsedUp()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+        QueueTokenDto token = waitingRoom.enter(1).orElseThrow();
+
+        assertTrue(waitingRoom.admits(token.token(), 1));
+        assertTrue(waitingRoom.admits(token.token(), 1));
+        assertTrue(waitingRoom.admits(token.token(), 1));
+        assertFalse(waitingRoom.admits(token.token(), 1));
+        assertTrue(waitingRoom.status(token.token()).isEmpty());
+    }
+
+    @Test
+    public void testWouldAdmitDoesNotUseTheToken()
+    {
+        WaitingRoom waitingRoom = waitingRoom(100);
+        QueueTokenDto token = waitingRoom.enter(1).orElseThrow();
+        waitingRoom.enter(1);
+        QueueTokenDto waiting = waitingRoom.enter(1).orElseThrow();
+
+        for (int i = 0; i < 5; ++i)
+        {
+            assertTrue(waitingRoom.wouldAdmit(token.token(), 1));
+        }
+
+        assertTrue(waitingRoom.wouldAdmit(null, 2));
+        assertFalse(waitingRoom.wouldAdmit(null, 1));
+        assertFalse(waitingRoom.wouldAdmit(waiting.token(), 1));
+
+        for (int i = 0; i < 3; ++i)
+        {
+            assertTrue(waitingRoom.admits(token.token(), 1));
+        }
+
+        assertFalse(waitingRoom.wouldAdmit(token.token(), 1));
+    }
+
+    @Test
+    public void testUsedUpTokenFreesItsPlace()
+    {
+        WaitingRoom waitingRoom = waitingRoom(1);
+        QueueTokenDto token = waitingRoom.enter(1).orElseThrow();
+
+        assertTrue(waitingRoom.enter(1).isEmpty());
+
+        for (int i = 0; i < 3; ++i)
+        {
+            waitingRoom.admits(token.token(), 1);
+        }
+
+        assertTrue(waitingRoom.enter(1).isPresent());
+    }
+
+    @Test
+    public void testConcurrentEntriesDoNotExceedMaxTokens() throws Exception
+    {
+        WaitingRoom waitingRoom = waitingRoom(50);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; ++i)
+        {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int entered = 0;
+
+                for (int j = 0; j < 20; ++j)
+                {
+                    if (waitingRoom.enter(2).isPresent())
+                    {
+                        ++entered;
+                    }
+                }
+
+                return entered;
+            }));
+        }
+
+        start.countDown();
+
+        int totalEntered = 0;
+
+        for (Future<Integer> future : futures)
+        {
+            totalEntered += future.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(50, totalEntered);
+    }
+}
@@ -0,0 +1,88 @@
+package cache;
+
+import org.example.cache.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTest
+{
+    @Test
+    public void testAddedKeysAreAlwaysFound()
+    {
+        BloomFilter filter = new BloomFilter("test", 10_000, 0.01);
+
+        for (int i = 0; i < 10_000; ++i)
+        {
+            filter.add("user" + i + "@example.org");
+        }
+
+        for (int i = 0; i < 10_000; ++i)
+        {
+            assertTrue(filter.mightContain("user" + i + "@example.org"));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRateIsNearTarget()
+    {
+        BloomFilter filter = new BloomFilter("test", 10_000, 0.01);
+
+        for (int i = 0; i < 10_000; ++i)
+        {
+            filter.add("user" + i + "@example.org");
+        }
+
+        int falsePositives = 0;
+
+        for (int i = 0; i < 100_000; ++i)
+        {
+            if (filter.mightContain("other" + i + "@example.org"))
+            {
+                ++falsePositives;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue((double) filter.snapshot().get("estimatedFalsePositiveRate") < 0.02);
+    }
+
+    @Test
+    public void testSnapshotReportsSizeAndCounters()
+    {
+        BloomFilter filter = new BloomFilter("test", 1_000, 0.01);
+        filter.add("a@example.org");
+
+        assertFalse(filter.mightContain("b@example.org"));
+        filter.recordFalsePositive();
+
+        Map<String, Object> snapshot = filter.snapshot();
+        long bits = (long) snapshot.get("bits");
+
+        assertEquals(0, bits % 64);
+        assertTrue(bits >= 9_585);
+        assertEquals(7, snapshot.get("hashFunctions"));
+        assertEquals(bits / 8, snapshot.get("memoryBytes"));
+        assertEquals(1L, snapshot.get("insertions"));
+        assertEquals(7.0 / bits, (double) snapshot.get("fillRatio"), 1e-9);
+        assertEquals(1L, snapshot.get("definitelyAbsent"));
+        assertEquals(1L, snapshot.get("falsePositives"));
+        assertEquals(0.5, (double) snapshot.get("observedFalsePositiveRate"), 1e-9);
+    }
+
+    @Test
+    public void testEmptyCopyHasSameSizeAndNoKeys()
+    {
+        BloomFilter filter = new BloomFilter("test", 10_000, 0.01);
+        filter.add("user@example.org");
+
+        BloomFilter copy = filter.emptyCopy();
+
+        assertEquals(filter.snapshot().get("bits"), copy.snapshot().get("bits"));
+        assertEquals(filter.snapshot().get("hashFunctions"), copy.snapshot().get("hashFunctions"));
+        assertEquals(0L, copy.snapshot().get("insertions"));
+        assertFalse(copy.mightContain("user@example.org"));
+    }
+}
@@ -0,0 +1,147 @@
+package cache;
+
+import org.example.cache.CachedEventDao;
+import org.example.cache.EntityVersions;
+import org.example.cache.ReadThroughCache;
+import org.example.cache.SingleFlight;
+import org.example.dto.EventDto;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.example.jooq.generated.tables.Events.EVENTS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedEventDaoTest
+{
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    private final AtomicReference<String> storedName = new AtomicReference<>("Old name");
+    private final AtomicInteger selects = new AtomicInteger();
+    private final CountDownLatch firstSelectLoading = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstSelect = new CountDownLatch(1);
+
+    // The first select reads the row and then stalls, so the write and later reads happen while it is in flight
+    private DSLContext database()
+    {
+        MockDataProvider dataProvider = ctx -> {
+            String name;
+
+            if (ctx.sql().toLowerCase().startsWith("update"))
+            {
+                storedName.set("New name");
+                name = storedName.get();
+            }
+            else
+            {
+                name = storedName.get();
+
+                if (selects.incrementAndGet() == 1)
+                {
+                    firstSelectLoading.countDown();
+                    await(releaseFirstSelect);
+                }
+            }
+
+            Record record = DSL.using(SQLDialect.POSTGRES).newRecord(EVENTS.fields());
+
+            record.set(EVENTS.EVENT_ID, 1);
+            record.set(EVENTS.VENUE_ID, 1);
+            record.set(EVENTS.NAME, name);
+            record.set(EVENTS.START_TIME, START);
+            record.set(EVENTS.END_TIME, START.plusHours(2));
+
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(EVENTS.fields());
+            result.add(record);
+
+            return new MockResult[] {new MockResult(1, result)};
+        };
+
+        return DSL.using(new MockConnection(dataProvider), SQLDialect.POSTGRES);
+    }
+
+    @Test
+    public void testReadAfterInvalidateDoesNotStoreLoadStartedBeforeWrite() throws Exception
+    {
+        SingleFlight flights = new SingleFlight("events");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicReference<Future<Optional<EventDto>>> readerAfterInvalidate = new AtomicReference<>();
+        AtomicReference<CachedEventDao> dao = new AtomicReference<>();
+
+        // Starts a reader right after the cache entry is invalidated and waits until it has loaded or joined a load
+        ReadThroughCache<Integer, EventDto> cache = new ReadThroughCache<>("events", 100, 1, TimeUnit.HOURS)
+        {
+            @Override
+            public void invalidate(Integer key)
+            {
+                super.invalidate(key);
+
+                if (readerAfterInvalidate.get() == null)
+                {
+                    readerAfterInvalidate.set(executor.submit(() -> dao.get().findEventById(1)));
+                    awaitCalls(flights, 2);
+                }
+            }
+        };
+
+        dao.set(new CachedEventDao(database(), cache, new EntityVersions("events"), flights));
+
+        Future<Optional<EventDto>> readerBeforeWrite = executor.submit(() -> dao.get().findEventById(1));
+        assertTrue(firstSelectLoading.await(5, TimeUnit.SECONDS));
+
+        dao.get().modifyEvent(EventDto.create(1, 1, "New name", START, START.plusHours(2)));
+        releaseFirstSelect.countDown();
+
+        assertEquals("Old name", readerBeforeWrite.get(5, TimeUnit.SECONDS).orElseThrow().name());
+        assertEquals("New name", readerAfterInvalidate.get().get(5, TimeUnit.SECONDS).orElseThrow().name());
+        assertEquals("New name", dao.get().findEventById(1).orElseThrow().name());
+
+        executor.shutdown();
+    }
+
+    private static void awaitCalls(SingleFlight flights, long calls)
+    {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline)
+        {
+            Map<String, Object> snapshot = flights.snapshot();
+
+            if ((long) snapshot.get("loads") + (long) snapshot.get("collapsed") >= calls)
+            {
+                return;
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
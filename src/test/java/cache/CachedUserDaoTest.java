@@ -0,0 +1,170 @@
+package cache;
+
+import org.example.cache.BloomFilter;
+import org.example.cache.CachedUserDao;
+import org.example.cache.KnownMaxId;
+import org.example.cache.NegativeCache;
+import org.example.cache.ReadThroughCache;
+import org.example.dto.UserDto;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.example.jooq.generated.tables.Users.USERS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedUserDaoTest
+{
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private final TreeMap<Integer, UserDto> rows = new TreeMap<>();
+    private final AtomicInteger emailQueries = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+
+    // In-memory USERS table for the statements the DAO issues
+    private DSLContext database()
+    {
+        MockDataProvider dataProvider = ctx -> {
+            String sql = ctx.sql().toLowerCase();
+            Object[] bindings = ctx.bindings();
+            List<UserDto> found;
+
+            if (sql.startsWith("select max("))
+            {
+                Result<Record1<Integer>> result = DSL.using(SQLDialect.POSTGRES).newResult(USERS.USER_ID);
+                Record1<Integer> record = DSL.using(SQLDialect.POSTGRES).newRecord(USERS.USER_ID);
+                record.value1(rows.isEmpty() ? null : rows.lastKey());
+                result.add(record);
+                return new MockResult[] {new MockResult(1, result)};
+            }
+            else if (sql.startsWith("insert"))
+            {
+                int userId = rows.isEmpty() ? 1 : rows.lastKey() + 1;
+                UserDto user = UserDto.create(userId, (String) bindings[0], (String) bindings[1], CREATED_AT);
+                rows.put(userId, user);
+                found = List.of(user);
+            }
+            else if (sql.startsWith("update"))
+            {
+                int userId = (Integer) bindings[2];
+                UserDto user = UserDto.create(userId, (String) bindings[0], (String) bindings[1], CREATED_AT);
+                rows.put(userId, user);
+                found = List.of(user);
+            }
+            else if (sql.contains("\"email\" = ?"))
+            {
+                emailQueries.incrementAndGet();
+                found = rows.values().stream()
+                        .filter(user -> user.email().equals(bindings[0]))
+                        .toList();
+            }
+            else if (sql.contains("\"user_id\" > ?"))
+            {
+                found = List.copyOf(rows.tailMap((Integer) bindings[0], false).values());
+            }
+            else
+            {
+                found = rows.values().stream()
+                        .filter(user -> user.userId() == (Integer) bindings[0])
+                        .toList();
+            }
+
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(USERS.fields());
+
+            for (UserDto user : found)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(USERS.fields());
+                record.set(USERS.USER_ID, user.userId());
+                record.set(USERS.NAME, user.name());
+                record.set(USERS.EMAIL, user.email());
+                record.set(USERS.CREATED_AT, user.createdAt());
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(found.size(), result)};
+        };
+
+        return DSL.using(new MockConnection(dataProvider), SQLDialect.POSTGRES);
+    }
+
+    private CachedUserDao userDao()
+    {
+        return new CachedUserDao(database(),
+                new NegativeCache<>("users", 100, 30, TimeUnit.SECONDS, now::get),
+                new NegativeCache<>("emails", 100, 30, TimeUnit.SECONDS, now::get),
+                new KnownMaxId(() -> rows.isEmpty() ? 0 : rows.lastKey(), 30, TimeUnit.SECONDS, now::get),
+                new ReadThroughCache<>("emails", 100, 1, TimeUnit.HOURS, now::get),
+                new BloomFilter("emails", 1000, 0.01));
+    }
+
+    @Test
+    public void testSignupsKeepUnknownEmailsOffTheDatabase()
+    {
+        CachedUserDao dao = userDao();
+
+        for (int i = 0; i < 5; ++i)
+        {
+            assertTrue(dao.addUser(UserDto.create(0, "User " + i, "user" + i + "@example.org", CREATED_AT)).isPresent());
+        }
+
+        int queries = emailQueries.get();
+
+        assertTrue(dao.findUserByEmail("unknown@example.org").isEmpty());
+        assertEquals(queries, emailQueries.get());
+        assertEquals("User 3", dao.findUserByEmail("user3@example.org").orElseThrow().name());
+    }
+
+    @Test
+    public void testUserAddedElsewhereIsLookedUp()
+    {
+        CachedUserDao dao = userDao();
+
+        dao.addUser(UserDto.create(0, "Local", "local@example.org", CREATED_AT));
+        rows.put(2, UserDto.create(2, "Remote", "remote@example.org", CREATED_AT));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals("Remote", dao.findUserByEmail("remote@example.org").orElseThrow().name());
+    }
+
+    @Test
+    public void testRegisteredEmailIsRejectedWithoutInsert()
+    {
+        CachedUserDao dao = userDao();
+
+        dao.addUser(UserDto.create(0, "First", "same@example.org", CREATED_AT));
+
+        assertTrue(dao.addUser(UserDto.create(0, "Second", "same@example.org", CREATED_AT)).isEmpty());
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    public void testRebuildDropsReplacedEmails()
+    {
+        CachedUserDao dao = userDao();
+
+        dao.addUser(UserDto.create(0, "User", "old@example.org", CREATED_AT));
+        dao.modifyUser(UserDto.create(1, "User", "new@example.org", CREATED_AT));
+
+        assertTrue(dao.emailFilter().mightContain("old@example.org"));
+
+        dao.rebuildEmailFilter();
+
+        assertFalse(dao.emailFilter().mightContain("old@example.org"));
+        assertTrue(dao.emailFilter().mightContain("new@example.org"));
+        assertEquals("User", dao.findUserByEmail("new@example.org").orElseThrow().name());
+    }
+}
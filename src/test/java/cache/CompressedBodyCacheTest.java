@@ -0,0 +1,50 @@
+package cache;
+
+import org.example.cache.CompressedBodyCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedBodyCacheTest
+{
+    @Test
+    public void testHitOnlyForSameBody()
+    {
+        CompressedBodyCache cache = new CompressedBodyCache(1_000);
+        byte[] compressed = {9};
+
+        cache.put("key", new byte[] {1, 2, 3}, compressed);
+
+        assertSame(compressed, cache.get("key", new byte[] {1, 2, 3}));
+        assertNull(cache.get("key", new byte[] {1, 2, 4}));
+        assertNull(cache.get("other", new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted()
+    {
+        CompressedBodyCache cache = new CompressedBodyCache(20);
+        byte[] body = new byte[8];
+
+        cache.put("a", body, new byte[1]);
+        cache.put("b", body, new byte[1]);
+        cache.get("a", body);
+        cache.put("c", body, new byte[1]);
+
+        assertNotNull(cache.get("a", body));
+        assertNull(cache.get("b", body));
+        assertNotNull(cache.get("c", body));
+        assertEquals(1L, cache.snapshot().get("evictions"));
+    }
+
+    @Test
+    public void testOversizedBodyIsNotStored()
+    {
+        CompressedBodyCache cache = new CompressedBodyCache(10);
+
+        cache.put("key", new byte[10], new byte[1]);
+
+        assertNull(cache.get("key", new byte[10]));
+        assertEquals(0L, cache.snapshot().get("bytes"));
+    }
+}
@@ -0,0 +1,35 @@
+package cache;
+
+import org.example.cache.EntityVersions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityVersionsTest
+{
+    @Test
+    public void testBumpChangesEntityAndTableTags()
+    {
+        EntityVersions versions = new EntityVersions("venues");
+        String entity = versions.entityTag(7);
+        String other = versions.entityTag(8);
+        String table = versions.tableTag();
+
+        versions.bump(7);
+
+        assertNotEquals(entity, versions.entityTag(7));
+        assertEquals(other, versions.entityTag(8));
+        assertNotEquals(table, versions.tableTag());
+    }
+
+    @Test
+    public void testTagsAreStableWithoutWrites()
+    {
+        EntityVersions versions = new EntityVersions("seats");
+
+        assertEquals(versions.entityTag(1), versions.entityTag(1));
+        assertEquals(versions.tableTag(), versions.tableTag());
+        assertNotEquals(versions.entityTag(1), versions.entityTag(2));
+        assertNotEquals(versions.entityTag(1), new EntityVersions("events").entityTag(1));
+    }
+}
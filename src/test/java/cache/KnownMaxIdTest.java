@@ -0,0 +1,79 @@
+package cache;
+
+import org.example.cache.KnownMaxId;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KnownMaxIdTest
+{
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger tableMax = new AtomicInteger(10);
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private KnownMaxId knownMaxId()
+    {
+        return new KnownMaxId(() -> {
+            queries.incrementAndGet();
+            return tableMax.get();
+        }, 30, TimeUnit.SECONDS, now::get);
+    }
+
+    @Test
+    public void testIdsAboveMaxAreKnownMissing()
+    {
+        KnownMaxId maxId = knownMaxId();
+
+        assertFalse(maxId.exceeds(5));
+        assertTrue(maxId.exceeds(11));
+        assertTrue(maxId.exceeds(12));
+        assertFalse(maxId.exceeds(10));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testObservedIdRaisesMax()
+    {
+        KnownMaxId maxId = knownMaxId();
+
+        assertTrue(maxId.exceeds(11));
+        maxId.observe(11);
+
+        assertFalse(maxId.exceeds(11));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testMaxIsReadAgainAfterInterval()
+    {
+        KnownMaxId maxId = knownMaxId();
+
+        assertTrue(maxId.exceeds(15));
+        tableMax.set(20);
+        assertTrue(maxId.exceeds(15));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertFalse(maxId.exceeds(15));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void testCurrentReadsTableMaxOncePerInterval()
+    {
+        KnownMaxId maxId = knownMaxId();
+
+        assertEquals(10, maxId.current());
+        tableMax.set(20);
+        assertEquals(10, maxId.current());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals(20, maxId.current());
+        assertEquals(2, queries.get());
+    }
+}
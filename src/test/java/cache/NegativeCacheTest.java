@@ -0,0 +1,97 @@
+package cache;
+
+import org.example.cache.NegativeCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NegativeCacheTest
+{
+    private AtomicLong now;
+    private AtomicInteger loads;
+    private NegativeCache<String> cache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        now = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new NegativeCache<>("test", 2, 10, TimeUnit.SECONDS, now::get);
+    }
+
+    private Optional<String> load(String key)
+    {
+        loads.incrementAndGet();
+        return key.startsWith("missing") ? Optional.empty() : Optional.of("value-" + key);
+    }
+
+    @Test
+    public void testMissIsRemembered()
+    {
+        assertTrue(cache.get("missing", this::load).isEmpty());
+        assertTrue(cache.get("missing", this::load).isEmpty());
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.snapshot().get("hits"));
+    }
+
+    @Test
+    public void testPresentValueIsNotCached()
+    {
+        assertEquals(Optional.of("value-a"), cache.get("a", this::load));
+        assertEquals(Optional.of("value-a"), cache.get("a", this::load));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMissExpires()
+    {
+        cache.get("missing", this::load);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        cache.get("missing", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidateForgetsMiss()
+    {
+        cache.get("missing", this::load);
+        cache.invalidate("missing");
+
+        assertEquals(Optional.of("created"), cache.get("missing", key -> Optional.of("created")));
+    }
+
+    @Test
+    public void testMissRacingWithInvalidateIsNotStored()
+    {
+        cache.get("missing", key -> {
+            cache.invalidate(key);
+            return Optional.empty();
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSizeIsBounded()
+    {
+        cache.get("missing-1", this::load);
+        cache.get("missing-2", this::load);
+        cache.get("missing-3", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.snapshot().get("evictions"));
+
+        cache.get("missing-1", this::load);
+        assertEquals(4, loads.get());
+    }
+}
@@ -0,0 +1,100 @@
+package cache;
+
+import org.example.cache.ReadThroughCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadThroughCacheTest
+{
+    private AtomicLong now;
+    private AtomicInteger loads;
+    private ReadThroughCache<Integer, String> cache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        now = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new ReadThroughCache<>("test", 2, 10, TimeUnit.SECONDS, now::get);
+    }
+
+    private Optional<String> load(int key)
+    {
+        loads.incrementAndGet();
+        return key < 0 ? Optional.empty() : Optional.of("value" + key);
+    }
+
+    @Test
+    public void testSecondReadIsHit()
+    {
+        assertEquals(Optional.of("value1"), cache.get(1, this::load));
+        assertEquals(Optional.of("value1"), cache.get(1, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.snapshot().get("hits"));
+        assertEquals(1L, cache.snapshot().get("misses"));
+    }
+
+    @Test
+    public void testEmptyResultIsNotCached()
+    {
+        assertTrue(cache.get(-1, this::load).isEmpty());
+        assertTrue(cache.get(-1, this::load).isEmpty());
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEntryExpires()
+    {
+        cache.get(1, this::load);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.snapshot().get("expirations"));
+    }
+
+    @Test
+    public void testOldestEntryIsEvicted()
+    {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+        cache.get(3, this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.snapshot().get("evictions"));
+
+        cache.get(1, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        cache.get(1, this::load);
+        cache.invalidate(1);
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testLoadRacingWithInvalidateIsNotStored()
+    {
+        cache.get(1, key -> {
+            cache.invalidate(key);
+            return load(key);
+        });
+
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,124 @@
+package cache;
+
+import org.example.cache.SingleFlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest
+{
+    @Test
+    public void testConcurrentCallsShareOneLoad() throws Exception
+    {
+        SingleFlight flights = new SingleFlight("test");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        Future<String> first = executor.submit(() -> flights.execute(1, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        }));
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+
+        for (int i = 0; i < 7; ++i)
+        {
+            followers.add(executor.submit(() -> flights.execute(1, () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+
+        while ((long) flights.snapshot().get("collapsed") < 7)
+        {
+            Thread.onSpinWait();
+        }
+
+        release.countDown();
+
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+
+        for (Future<String> follower : followers)
+        {
+            assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0, flights.snapshot().get("inFlight"));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSequentialCallsLoadAgain()
+    {
+        SingleFlight flights = new SingleFlight("test");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, flights.execute(1, loads::incrementAndGet));
+        assertEquals(2, flights.execute(1, loads::incrementAndGet));
+        assertEquals(0L, flights.snapshot().get("collapsed"));
+    }
+
+    @Test
+    public void testFailureIsRethrownAndNotRemembered()
+    {
+        SingleFlight flights = new SingleFlight("test");
+
+        assertThrows(IllegalStateException.class, () -> flights.execute(1, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("ok", flights.execute(1, () -> "ok"));
+        assertEquals(1L, flights.snapshot().get("failures"));
+    }
+
+    @Test
+    public void testForgetStartsNewLoad() throws Exception
+    {
+        SingleFlight flights = new SingleFlight("test");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<String> stale = executor.submit(() -> flights.execute(1, () -> {
+            loading.countDown();
+            await(release);
+            return "old";
+        }));
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        flights.forget(1);
+
+        assertEquals("new", flights.execute(1, () -> "new"));
+
+        release.countDown();
+        assertEquals("old", stale.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
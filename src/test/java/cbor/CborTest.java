@@ -0,0 +1,105 @@
+package cbor;
+
+import org.example.cbor.Cbor;
+import org.example.cbor.CborException;
+import org.example.cbor.CborReader;
+import org.example.cbor.CborWriter;
+import org.example.config.CborProvider;
+import org.example.dto.SeatDto;
+import org.example.dto.TicketDto;
+import org.example.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CborTest
+{
+    private final Cbor cbor = CborProvider.getCbor();
+
+    private String hex(CborWriter writer)
+    {
+        return HexFormat.of().formatHex(writer.toByteArray());
+    }
+
+    private byte[] bytes(String hex)
+    {
+        return HexFormat.of().parseHex(hex);
+    }
+
+    @Test
+    public void testIntegersUseShortestHeader()
+    {
+        // Examples from RFC 8949 appendix A
+        assertEquals("00", hex(new CborWriter(16).value(0)));
+        assertEquals("17", hex(new CborWriter(16).value(23)));
+        assertEquals("1818", hex(new CborWriter(16).value(24)));
+        assertEquals("1903e8", hex(new CborWriter(16).value(1000)));
+        assertEquals("1a000f4240", hex(new CborWriter(16).value(1_000_000)));
+        assertEquals("20", hex(new CborWriter(16).value(-1)));
+        assertEquals("3903e7", hex(new CborWriter(16).value(-1000)));
+        assertEquals("6449455446", hex(new CborWriter(16).value("IETF")));
+        assertEquals("62c3bc", hex(new CborWriter(16).value("ü")));
+    }
+
+    @Test
+    public void testReadIntegers()
+    {
+        assertEquals(1000, new CborReader(bytes("1903e8")).nextInt());
+        assertEquals(-1000, new CborReader(bytes("3903e7")).nextInt());
+        assertEquals(Integer.MIN_VALUE, new CborReader(bytes("3a7fffffff")).nextInt());
+        assertThrows(CborException.class, () -> new CborReader(bytes("1a80000000")).nextInt());
+    }
+
+    @Test
+    public void testDtoRoundTrip()
+    {
+        TicketDto ticket = TicketDto.create(1, 2, 3, 400, LocalDateTime.of(2025, 6, 1, 18, 30, 15));
+        UserDto user = UserDto.create(-7, "Żaneta", "z@example.com", LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        assertEquals(ticket, cbor.fromCbor(TicketDto.class, cbor.toCbor(TicketDto.class, ticket)));
+        assertEquals(user, cbor.fromCbor(UserDto.class, cbor.toCbor(UserDto.class, user)));
+    }
+
+    @Test
+    public void testListRoundTrip()
+    {
+        List<SeatDto> seats = List.of(SeatDto.create(1, 1, "A", 1), SeatDto.create(2, 1, "A", 2));
+
+        assertEquals(seats, cbor.listFromCbor(SeatDto.class, cbor.toCbor(SeatDto.class, seats)));
+        assertEquals(List.of(), cbor.listFromCbor(SeatDto.class, cbor.toCbor(SeatDto.class, List.of())));
+    }
+
+    @Test
+    public void testIndefiniteMapAndUnknownKeys()
+    {
+        // {_ "seatId": 5, "extra": [1, {"x": 2.5}], "seatRow": "B", "seatNumber": 9}
+        CborWriter writer = new CborWriter(64);
+        writer.raw(new byte[] {(byte) 0xBF});
+        writer.value("seatId").value(5);
+        writer.value("extra").beginArray(2).value(1).beginMap(1).value("x");
+        writer.raw(bytes("fb4004000000000000"));
+        writer.value("seatRow").value("B");
+        writer.value("seatNumber").value(9);
+        writer.raw(new byte[] {(byte) 0xFF});
+
+        assertEquals(SeatDto.create(5, 0, "B", 9), cbor.fromCbor(SeatDto.class, writer.toByteArray()));
+    }
+
+    @Test
+    public void testMalformedInput()
+    {
+        byte[] seat = cbor.toCbor(SeatDto.class, SeatDto.create(1, 1, "A", 1));
+        byte[] truncated = Arrays.copyOf(seat, seat.length - 1);
+        byte[] trailing = Arrays.copyOf(seat, seat.length + 1);
+
+        assertThrows(CborException.class, () -> cbor.fromCbor(SeatDto.class, truncated));
+        assertThrows(CborException.class, () -> cbor.fromCbor(SeatDto.class, trailing));
+        assertThrows(CborException.class, () -> cbor.fromCbor(SeatDto.class, bytes("5bffffffffffffffff")));
+        assertThrows(CborException.class, () -> cbor.fromCbor(SeatDto.class, new byte[0]));
+    }
+}
@@ -1,5 +1,7 @@
 package dao;
 
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.EventDao;
 import org.example.dto.EventDto;
 import org.jooq.DSLContext;
@@ -342,4 +344,36 @@ public class EventDaoTest
 
         assertTrue(result.isPresent());
     }
+
+    @Test
+    public void testFindEventsPage()
+    {
+        EventDto event = testEvent();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(EVENTS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(EVENTS.fields());
+
+                record.set(EVENTS.EVENT_ID, i);
+                record.set(EVENTS.VENUE_ID, event.venueId());
+                record.set(EVENTS.NAME, event.name());
+                record.set(EVENTS.START_TIME, event.startTime());
+                record.set(EVENTS.END_TIME, event.endTime());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        EventDao eventDao = new EventDao(dslFor(dataProvider));
+        Page<EventDto> result = eventDao.findEventsByName(event.name(), PageRequest.first(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isPresent());
+        assertEquals(2, PageRequest.decodeCursor(result.nextCursor().get()));
+    }
 }
@@ -1,5 +1,7 @@
 package dao;
 
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.SeatDao;
 import org.example.dto.SeatDto;
 import org.jooq.DSLContext;
@@ -329,4 +331,35 @@ public class SeatDaoTest
 
         assertTrue(result.isPresent());
     }
+
+    @Test
+    public void testFindSeatsPage()
+    {
+        SeatDto seat = testSeat();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(SEATS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(SEATS.fields());
+
+                record.set(SEATS.SEAT_ID, i);
+                record.set(SEATS.VENUE_ID, seat.venueId());
+                record.set(SEATS.SEAT_ROW, seat.seatRow());
+                record.set(SEATS.SEAT_NUMBER, i);
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        SeatDao seatDao = new SeatDao(dslFor(dataProvider));
+        Page<SeatDto> result = seatDao.findSeatsByVenue(seat.venueId(), PageRequest.first(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isPresent());
+        assertEquals(2, PageRequest.decodeCursor(result.nextCursor().get()));
+    }
 }
@@ -1,5 +1,7 @@
 package dao;
 
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.TicketDao;
 import org.example.dto.TicketDto;
 import org.jooq.DSLContext;
@@ -12,7 +14,9 @@ import org.jooq.tools.jdbc.MockDataProvider;
 import org.jooq.tools.jdbc.MockResult;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -420,4 +424,193 @@ public class TicketDaoTest
 
         assertTrue(result.isPresent());
     }
+
+    @Test
+    public void testAddTickets()
+    {
+        TicketDto ticket = testTicket();
+
+        MockDataProvider dataProvider = ctx -> {
+            Record record1 = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+            Record record2 = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+
+            record1.set(TICKETS.TICKET_ID, 1);
+            record1.set(TICKETS.EVENT_ID, ticket.eventId());
+            record1.set(TICKETS.SEAT_ID, 1);
+            record1.set(TICKETS.USER_ID, ticket.userId());
+            record1.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+            record2.set(TICKETS.TICKET_ID, 2);
+            record2.set(TICKETS.EVENT_ID, ticket.eventId());
+            record2.set(TICKETS.SEAT_ID, 2);
+            record2.set(TICKETS.USER_ID, ticket.userId());
+            record2.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+            result.add(record1);
+            result.add(record2);
+
+            return new MockResult[] {new MockResult(2, result)};
+        };
+
+        TicketDao dao = new TicketDao(dslFor(dataProvider));
+        Optional<List<TicketDto>> result = dao.addTickets(List.of(
+                TicketDto.create(0, 1, 1, 1, ticket.bookedAt()),
+                TicketDto.create(0, 1, 2, 1, ticket.bookedAt())
+        ));
+
+        assertTrue(result.isPresent());
+        assertEquals(2, result.get().size());
+        assertEquals(2, result.get().get(1).seatId());
+    }
+
+    @Test
+    public void testAddTicketsError()
+    {
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+
+            return new MockResult[] {new MockResult(0, result)};
+        };
+
+        TicketDao dao = new TicketDao(dslFor(dataProvider));
+        Optional<List<TicketDto>> result = dao.addTickets(List.of(testTicket(), testTicket()));
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testAddTicketsIndividually()
+    {
+        TicketDto ticket = testTicket();
+
+        MockDataProvider dataProvider = ctx -> {
+            int seatId = (Integer) ctx.bindings()[1];
+
+            if (seatId == 2)
+            {
+                throw new SQLException("duplicate key value violates unique constraint");
+            }
+
+            Record record = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+
+            record.set(TICKETS.TICKET_ID, seatId);
+            record.set(TICKETS.EVENT_ID, ticket.eventId());
+            record.set(TICKETS.SEAT_ID, seatId);
+            record.set(TICKETS.USER_ID, ticket.userId());
+            record.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+            result.add(record);
+
+            return new MockResult[] {new MockResult(1, result)};
+        };
+
+        TicketDao dao = new TicketDao(dslFor(dataProvider));
+        List<Optional<TicketDto>> result = dao.addTicketsIndividually(List.of(
+                TicketDto.create(0, 1, 1, 1, ticket.bookedAt()),
+                TicketDto.create(0, 1, 2, 1, ticket.bookedAt()),
+                TicketDto.create(0, 1, 3, 1, ticket.bookedAt())
+        ));
+
+        assertEquals(3, result.size());
+        assertEquals(1, result.get(0).get().seatId());
+        assertTrue(result.get(1).isEmpty());
+        assertEquals(3, result.get(2).get().seatId());
+    }
+
+    @Test
+    public void testFindTicketsPage()
+    {
+        TicketDto ticket = testTicket();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+
+                record.set(TICKETS.TICKET_ID, i);
+                record.set(TICKETS.EVENT_ID, ticket.eventId());
+                record.set(TICKETS.SEAT_ID, i);
+                record.set(TICKETS.USER_ID, ticket.userId());
+                record.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        TicketDao ticketDao = new TicketDao(dslFor(dataProvider));
+        Page<TicketDto> result = ticketDao.findTicketsByEventId(ticket.eventId(), PageRequest.first(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isPresent());
+        assertEquals(2, PageRequest.decodeCursor(result.nextCursor().get()));
+    }
+
+    @Test
+    public void testFindLastTicketsPage()
+    {
+        TicketDto ticket = testTicket();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+
+            for (int i = 1; i <= 2; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+
+                record.set(TICKETS.TICKET_ID, i);
+                record.set(TICKETS.EVENT_ID, ticket.eventId());
+                record.set(TICKETS.SEAT_ID, i);
+                record.set(TICKETS.USER_ID, ticket.userId());
+                record.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(2, result)};
+        };
+
+        TicketDao ticketDao = new TicketDao(dslFor(dataProvider));
+        Page<TicketDto> result = ticketDao.findTickets(PageRequest.create(2, 2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isEmpty());
+    }
+
+    @Test
+    public void testStreamTicketsByEventId()
+    {
+        TicketDto ticket = testTicket();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(TICKETS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(TICKETS.fields());
+
+                record.set(TICKETS.TICKET_ID, i);
+                record.set(TICKETS.EVENT_ID, ticket.eventId());
+                record.set(TICKETS.SEAT_ID, i);
+                record.set(TICKETS.USER_ID, ticket.userId());
+                record.set(TICKETS.BOOKED_AT, ticket.bookedAt());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        TicketDao ticketDao = new TicketDao(dslFor(dataProvider));
+        List<TicketDto> streamed = new ArrayList<>();
+        Page.forEachRow(pageRequest -> ticketDao.findTicketsByEventId(ticket.eventId(), pageRequest), streamed::add);
+
+        assertEquals(3, streamed.size());
+        assertEquals(3, streamed.getLast().seatId());
+    }
 }
@@ -1,5 +1,7 @@
 package dao;
 
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.UserDao;
 import org.example.dto.UserDto;
 import org.jooq.DSLContext;
@@ -377,4 +379,65 @@ public class UserDaoTest
 
         assertTrue(result.isPresent());
     }
+
+    @Test
+    public void testFindUsersPage()
+    {
+        UserDto user = testUser();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(USERS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(USERS.fields());
+
+                record.set(USERS.USER_ID, i);
+                record.set(USERS.NAME, user.name());
+                record.set(USERS.EMAIL, i + user.email());
+                record.set(USERS.CREATED_AT, user.createdAt());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        UserDao userDao = new UserDao(dslFor(dataProvider));
+        Page<UserDto> result = userDao.findUsers(PageRequest.first(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isPresent());
+        assertEquals(2, PageRequest.decodeCursor(result.nextCursor().get()));
+    }
+
+    @Test
+    public void testFindUsersWithoutLimitReturnsEveryRow()
+    {
+        UserDto user = testUser();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(USERS.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(USERS.fields());
+
+                record.set(USERS.USER_ID, i);
+                record.set(USERS.NAME, user.name());
+                record.set(USERS.EMAIL, i + user.email());
+                record.set(USERS.CREATED_AT, user.createdAt());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        UserDao userDao = new UserDao(dslFor(dataProvider));
+        Page<UserDto> result = userDao.findUsers(PageRequest.parse(null, null));
+
+        assertEquals(3, result.items().size());
+        assertTrue(result.nextCursor().isEmpty());
+    }
 }
@@ -1,5 +1,7 @@
 package dao;
 
+import org.example.dao.Page;
+import org.example.dao.PageRequest;
 import org.example.dao.VenueDao;
 import org.example.dto.VenueDto;
 import org.jooq.DSLContext;
@@ -394,4 +396,34 @@ public class VenueDaoTest
 
         assertTrue(result.isPresent());
     }
+
+    @Test
+    public void testFindVenuesPage()
+    {
+        VenueDto venue = testVenue();
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(VENUES.fields());
+
+            for (int i = 1; i <= 3; ++i)
+            {
+                Record record = DSL.using(SQLDialect.POSTGRES).newRecord(VENUES.fields());
+
+                record.set(VENUES.VENUE_ID, i);
+                record.set(VENUES.NAME, venue.name());
+                record.set(VENUES.ADDRESS, venue.address());
+
+                result.add(record);
+            }
+
+            return new MockResult[] {new MockResult(3, result)};
+        };
+
+        VenueDao venueDao = new VenueDao(dslFor(dataProvider));
+        Page<VenueDto> result = venueDao.findVenues(PageRequest.first(2));
+
+        assertEquals(2, result.items().size());
+        assertTrue(result.nextCursor().isPresent());
+        assertEquals(2, PageRequest.decodeCursor(result.nextCursor().get()));
+    }
 }
@@ -0,0 +1,73 @@
+package json;
+
+import com.google.gson.Gson;
+import org.example.config.GsonProvider;
+import org.example.dto.*;
+import org.example.json.DtoSerializers;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DtoSerializersTest
+{
+    private static final Gson gson = GsonProvider.getGson();
+
+    private static final List<String> STRINGS = List.of("plain", "", "quote \" backslash \\ slash /",
+            "<b>&amp;</b> = 'x'", "tab\tnew\nline\rcr\bbs\ffeed \u0001 \u001f \u007f", "żółć €", "emoji 🎫",
+            "separators \u2028 \u2029", "lone \uD800 surrogate");
+
+    private static final List<LocalDateTime> DATES = List.of(LocalDateTime.of(2025, 1, 2, 3, 4),
+            LocalDateTime.of(2025, 12, 31, 23, 59, 1), LocalDateTime.of(2025, 6, 1, 0, 0, 0, 120_000_000),
+            LocalDateTime.of(2025, 6, 1, 0, 0, 0, 123_456_000), LocalDateTime.of(2025, 6, 1, 0, 0, 0, 1),
+            LocalDateTime.of(999, 1, 1, 0, 0), LocalDateTime.of(12025, 1, 1, 0, 0), LocalDateTime.of(-5, 1, 1, 0, 0));
+
+    private <T> void assertSameAsGson(Class<T> type, T dto)
+    {
+        assertEquals(gson.toJson(dto), new String(DtoSerializers.toJson(type, dto), StandardCharsets.UTF_8));
+        assertArrayEquals(gson.toJson(dto).getBytes(StandardCharsets.UTF_8), DtoSerializers.toJson(type, dto));
+    }
+
+    @Test
+    public void testStringsMatchGson()
+    {
+        for (String value : STRINGS)
+        {
+            assertSameAsGson(VenueDto.class, VenueDto.create(1, value, value));
+            assertSameAsGson(SeatDto.class, SeatDto.create(1, 2, value, 3));
+        }
+    }
+
+    @Test
+    public void testDatesMatchGson()
+    {
+        for (LocalDateTime value : DATES)
+        {
+            assertSameAsGson(TicketDto.class, TicketDto.create(1, 2, 3, 4, value));
+            assertSameAsGson(UserDto.class, UserDto.create(1, "name", "a@b.c", value));
+            assertSameAsGson(EventDto.class, EventDto.create(1, 2, "name", value, value));
+        }
+    }
+
+    @Test
+    public void testIntsMatchGson()
+    {
+        for (int value : new int[] {0, 7, -7, 10, 99, 100, 123_456_789, Integer.MAX_VALUE, Integer.MIN_VALUE})
+        {
+            assertSameAsGson(SeatDto.class, SeatDto.create(value, value, "A", value));
+        }
+    }
+
+    @Test
+    public void testListsMatchGson()
+    {
+        List<TicketDto> tickets = List.of(TicketDto.create(1, 2, 3, 4, LocalDateTime.of(2025, 1, 2, 3, 4)),
+                TicketDto.create(5, 6, 7, 8, LocalDateTime.of(2025, 1, 2, 3, 4, 5)));
+
+        assertEquals(gson.toJson(tickets), new String(DtoSerializers.toJson(TicketDto.class, tickets), StandardCharsets.UTF_8));
+        assertEquals(gson.toJson(List.of()), new String(DtoSerializers.toJson(TicketDto.class, List.of()), StandardCharsets.UTF_8));
+    }
+}
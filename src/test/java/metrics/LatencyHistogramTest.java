@@ -0,0 +1,79 @@
+package metrics;
+
+import org.example.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest
+{
+    private static final long MILLI = 1_000_000;
+
+    @Test
+    public void testQuantilesWithinPrecision()
+    {
+        LatencyHistogram histogram = new LatencyHistogram(60, TimeUnit.SECONDS);
+        long now = System.nanoTime();
+
+        for (int i = 1; i <= 1000; ++i)
+        {
+            histogram.record(i * MILLI, now);
+        }
+
+        assertEquals(0.5, histogram.quantileSeconds(0.5, now), 0.5 * 0.04);
+        assertEquals(0.99, histogram.quantileSeconds(0.99, now), 0.99 * 0.04);
+        assertEquals(1000, histogram.count());
+        assertEquals(500.5, histogram.sumSeconds(), 0.001);
+    }
+
+    @Test
+    public void testSmallValuesAreExact()
+    {
+        LatencyHistogram histogram = new LatencyHistogram(60, TimeUnit.SECONDS);
+        long now = System.nanoTime();
+
+        histogram.record(42_000, now);
+
+        assertEquals(0.000042, histogram.quantileSeconds(0.5, now), 1e-9);
+    }
+
+    @Test
+    public void testOldWindowsAreDropped()
+    {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.SECONDS);
+        long now = System.nanoTime();
+
+        histogram.record(500 * MILLI, now);
+        histogram.record(MILLI, now + TimeUnit.SECONDS.toNanos(2));
+        histogram.record(MILLI, now + TimeUnit.SECONDS.toNanos(4));
+
+        assertEquals(0.001, histogram.quantileSeconds(1.0, now + TimeUnit.SECONDS.toNanos(4)), 0.001 * 0.04);
+        assertEquals(3, histogram.count());
+    }
+
+    @Test
+    public void testIdleGapDropsBothWindows()
+    {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.SECONDS);
+        long now = System.nanoTime();
+
+        histogram.record(500 * MILLI, now);
+
+        assertEquals(0.0, histogram.quantileSeconds(0.99, now + TimeUnit.SECONDS.toNanos(3)));
+
+        histogram.record(MILLI, now + TimeUnit.SECONDS.toNanos(3));
+
+        assertEquals(0.001, histogram.quantileSeconds(1.0, now + TimeUnit.SECONDS.toNanos(3)), 0.001 * 0.04);
+        assertEquals(2, histogram.count());
+    }
+
+    @Test
+    public void testEmptyHistogram()
+    {
+        LatencyHistogram histogram = new LatencyHistogram(60, TimeUnit.SECONDS);
+
+        assertEquals(0.0, histogram.quantileSeconds(0.99, System.nanoTime()));
+    }
+}
@@ -0,0 +1,82 @@
+package metrics;
+
+import org.example.metrics.QueryMetrics;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+
+import static org.example.jooq.generated.tables.Users.USERS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryMetricsTest
+{
+    private DSLContext dslFor(MockDataProvider provider, QueryMetrics queryMetrics)
+    {
+        return DSL.using(new DefaultConfiguration()
+                .set(new MockConnection(provider))
+                .set(SQLDialect.POSTGRES)
+                .set(new DefaultExecuteListenerProvider(queryMetrics)));
+    }
+
+    @Test
+    public void testNormalize()
+    {
+        assertEquals("select * from users where email = ?", QueryMetrics.normalize("select *\n from users where email = 'a@b.c'"));
+        assertEquals("select * from users where id in (?, ...)", QueryMetrics.normalize("select * from users where id in (1, 2, 3)"));
+        assertEquals("insert into t (a, b) values (?, ...), ...", QueryMetrics.normalize("insert into t (a, b) values (?, ?), (?, ?), (?, ?)"));
+        assertEquals("select * from t1 limit ?", QueryMetrics.normalize("select * from t1 limit 10"));
+    }
+
+    @Test
+    public void testStatementsAreTimedWithRowCounts()
+    {
+        QueryMetrics queryMetrics = new QueryMetrics(60_000, 60, 100);
+
+        MockDataProvider dataProvider = ctx -> {
+            Result<Record> result = DSL.using(SQLDialect.POSTGRES).newResult(USERS.fields());
+            result.add(DSL.using(SQLDialect.POSTGRES).newRecord(USERS.fields()));
+            result.add(DSL.using(SQLDialect.POSTGRES).newRecord(USERS.fields()));
+
+            return new MockResult[] {new MockResult(2, result)};
+        };
+
+        DSLContext dsl = dslFor(dataProvider, queryMetrics);
+
+        dsl.selectFrom(USERS).where(USERS.USER_ID.eq(1)).fetch();
+        dsl.selectFrom(USERS).where(USERS.USER_ID.eq(2)).fetch();
+
+        assertEquals(1, queryMetrics.statements().size());
+
+        QueryMetrics.StatementStats stats = queryMetrics.statements().values().iterator().next();
+
+        assertEquals(2, stats.latency().count());
+        assertEquals(4, stats.rows().sum());
+        assertEquals(0, stats.errors().sum());
+        assertEquals(0, queryMetrics.slowQueries());
+    }
+
+    @Test
+    public void testSlowQueriesAndStatementLimit()
+    {
+        QueryMetrics queryMetrics = new QueryMetrics(0, 60, 1);
+
+        MockDataProvider dataProvider = ctx -> new MockResult[] {new MockResult(1)};
+
+        DSLContext dsl = dslFor(dataProvider, queryMetrics);
+
+        dsl.deleteFrom(USERS).where(USERS.USER_ID.eq(1)).execute();
+        dsl.update(USERS).set(USERS.NAME, "name").where(USERS.USER_ID.eq(1)).execute();
+
+        assertEquals(2, queryMetrics.slowQueries());
+        assertEquals(2, queryMetrics.statements().size());
+        assertTrue(queryMetrics.statements().containsKey("other"));
+    }
+}
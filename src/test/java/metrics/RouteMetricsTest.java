@@ -0,0 +1,32 @@
+package metrics;
+
+import org.example.metrics.RouteMetrics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RouteMetricsTest
+{
+    @Test
+    public void testNormalize()
+    {
+        assertEquals("/tickets", RouteMetrics.normalize("/tickets"));
+        assertEquals("/tickets/:id", RouteMetrics.normalize("/tickets/17"));
+        assertEquals("/events/:id/holds/:id/confirm", RouteMetrics.normalize("/events/3/holds/9/confirm"));
+        assertEquals("/users/email/:param", RouteMetrics.normalize("/users/email/jan@example.com"));
+        assertEquals("/", RouteMetrics.normalize("/"));
+    }
+
+    @Test
+    public void testRoutesBeyondLimitAreGrouped()
+    {
+        RouteMetrics routeMetrics = new RouteMetrics(60, 1);
+
+        RouteMetrics.RouteKey tickets = routeMetrics.routeOf("GET", "/tickets");
+        routeMetrics.started(tickets);
+
+        assertEquals("/tickets", tickets.route());
+        assertEquals("other", routeMetrics.routeOf("GET", "/users").route());
+        assertEquals("/tickets", routeMetrics.routeOf("GET", "/tickets/").route());
+    }
+}
@@ -0,0 +1,59 @@
+package route;
+
+import org.example.route.ConditionalGet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalGetTest
+{
+    private static final String ETAG = "\"1700000000-42\"";
+
+    @Test
+    public void testMissingHeaderDoesNotMatch()
+    {
+        assertFalse(ConditionalGet.matches(null, ETAG, true));
+    }
+
+    @Test
+    public void testSameTagMatches()
+    {
+        assertTrue(ConditionalGet.matches(ETAG, ETAG, true));
+        assertTrue(ConditionalGet.matches(ETAG, ETAG, false));
+    }
+
+    @Test
+    public void testOtherTagDoesNotMatch()
+    {
+        assertFalse(ConditionalGet.matches("\"1700000000-43\"", ETAG, true));
+        assertFalse(ConditionalGet.matches("\"1700000000-42-cbor\"", ETAG, true));
+    }
+
+    @Test
+    public void testWeakTagMatches()
+    {
+        assertTrue(ConditionalGet.matches("W/" + ETAG, ETAG, true));
+    }
+
+    @Test
+    public void testCodingSuffixIsIgnored()
+    {
+        assertTrue(ConditionalGet.matches("\"1700000000-42-gzip\"", ETAG, true));
+        assertTrue(ConditionalGet.matches("W/\"1700000000-42-deflate\"", ETAG, true));
+    }
+
+    @Test
+    public void testAnyTagOfListMatches()
+    {
+        assertTrue(ConditionalGet.matches("\"a\", W/\"b\"," + ETAG, ETAG, true));
+        assertFalse(ConditionalGet.matches("\"a\", W/\"b\"", ETAG, true));
+    }
+
+    @Test
+    public void testWildcardMatchesOnlyExistingResource()
+    {
+        assertTrue(ConditionalGet.matches("*", ETAG, true));
+        assertFalse(ConditionalGet.matches("*", ETAG, false));
+        assertFalse(ConditionalGet.matches(" * ", ETAG, false));
+    }
+}
@@ -0,0 +1,25 @@
+package util;
+
+import org.example.util.ErrorMessages;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorMessagesTest
+{
+    @Test
+    public void testBodiesAreUtf8Json()
+    {
+        assertEquals("{\"error\":\"Cannot parse JSON\"}", new String(ErrorMessages.JSON_PARSE_ERROR, StandardCharsets.UTF_8));
+        assertEquals("{\"error\":\"Ticket not found\"}", new String(ErrorMessages.notFound("Ticket"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNotFoundIsEncodedOnce()
+    {
+        assertSame(ErrorMessages.notFound("User"), ErrorMessages.notFound("User"));
+        assertSame(ErrorMessages.notFound("Unknown"), ErrorMessages.notFound("Unknown"));
+    }
+}
@@ -0,0 +1,64 @@
+package util;
+
+import org.example.util.LogSampler;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogSamplerTest
+{
+    @Test
+    public void testRateOfOneKeepsEverything()
+    {
+        LogSampler sampler = new LogSampler((method, path) -> 1);
+
+        for (int i = 0; i < 100; ++i)
+        {
+            assertTrue(sampler.sample("GET", "/tickets"));
+        }
+    }
+
+    @Test
+    public void testRateOfZeroDisablesRoute()
+    {
+        LogSampler sampler = new LogSampler((method, path) -> path.equals("/tickets") ? 0 : 1);
+
+        assertFalse(sampler.sample("GET", "/tickets"));
+        assertTrue(sampler.sample("GET", "/users"));
+    }
+
+    @Test
+    public void testRateKeepsRoughlyOneInN()
+    {
+        LogSampler sampler = new LogSampler((method, path) -> 10);
+        int kept = 0;
+
+        for (int i = 0; i < 100_000; ++i)
+        {
+            if (sampler.sample("POST", "/tickets"))
+            {
+                ++kept;
+            }
+        }
+
+        assertEquals(10_000, kept, 1_000);
+    }
+
+    @Test
+    public void testRateIsLookedUpOncePerRoute()
+    {
+        AtomicInteger lookups = new AtomicInteger();
+        LogSampler sampler = new LogSampler((method, path) -> {
+            lookups.incrementAndGet();
+            return 1;
+        });
+
+        sampler.sample("GET", "/tickets");
+        sampler.sample("GET", "/tickets");
+        sampler.sample("POST", "/tickets");
+
+        assertEquals(2, lookups.get());
+    }
+}
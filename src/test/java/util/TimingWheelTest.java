@@ -0,0 +1,76 @@
+package util;
+
+import org.example.util.TimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest
+{
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    public void setUp()
+    {
+        timingWheel = new TimingWheel("test-wheel", 1, TimeUnit.MILLISECONDS, 8, 3);
+        timingWheel.start();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        timingWheel.stop();
+    }
+
+    @Test
+    public void testTaskRunsAfterDelay() throws InterruptedException
+    {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        AtomicLong elapsedMillis = new AtomicLong();
+
+        timingWheel.schedule(() -> {
+            elapsedMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(elapsedMillis.get() >= 30);
+    }
+
+    @Test
+    public void testTasksBeyondLowestLevelCascade() throws InterruptedException
+    {
+        int tasks = 50;
+        CountDownLatch latch = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; ++i)
+        {
+            timingWheel.schedule(latch::countDown, i * 13L, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() throws InterruptedException
+    {
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        TimingWheel.Timeout timeout = timingWheel.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+        assertFalse(timeout.isExpired());
+    }
+}
@@ -0,0 +1,78 @@
+package util;
+
+import org.example.util.TokenBuckets;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketsTest
+{
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000 * MILLI);
+
+    @Test
+    public void testBurstThenRefillAtRate()
+    {
+        TokenBuckets buckets = new TokenBuckets(4, 60, TimeUnit.SECONDS, clock::get);
+
+        for (int i = 0; i < 3; ++i)
+        {
+            assertEquals(0, buckets.acquire("client", 10, 3));
+        }
+
+        long wait = buckets.acquire("client", 10, 3);
+        assertTrue(wait > 0 && wait <= 100 * MILLI);
+
+        clock.addAndGet(100 * MILLI);
+        assertEquals(0, buckets.acquire("client", 10, 3));
+        assertTrue(buckets.acquire("client", 10, 3) > 0);
+    }
+
+    @Test
+    public void testKeysAreIndependent()
+    {
+        TokenBuckets buckets = new TokenBuckets(4, 60, TimeUnit.SECONDS, clock::get);
+
+        assertEquals(0, buckets.acquire("a", 1, 1));
+        assertTrue(buckets.acquire("a", 1, 1) > 0);
+        assertEquals(0, buckets.acquire("b", 1, 1));
+    }
+
+    @Test
+    public void testIdleBucketsAreEvicted()
+    {
+        TokenBuckets buckets = new TokenBuckets(1, 1, TimeUnit.SECONDS, clock::get);
+
+        for (int i = 0; i < 100; ++i)
+        {
+            buckets.acquire("client-" + i, 100, 10);
+        }
+
+        assertEquals(100, buckets.size());
+
+        clock.addAndGet(2000 * MILLI);
+        buckets.acquire("client-0", 100, 10);
+
+        assertEquals(1, buckets.size());
+    }
+
+    @Test
+    public void testRejectedRequestsDoNotConsumeTokens()
+    {
+        TokenBuckets buckets = new TokenBuckets(4, 60, TimeUnit.SECONDS, clock::get);
+
+        assertEquals(0, buckets.acquire("client", 1, 1));
+
+        for (int i = 0; i < 10; ++i)
+        {
+            assertTrue(buckets.acquire("client", 1, 1) > 0);
+        }
+
+        clock.addAndGet(1000 * MILLI);
+        assertEquals(0, buckets.acquire("client", 1, 1));
+    }
+}